@@ -0,0 +1,69 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Benchmarks mapping a GraphQL response containing every project of the
+ * {@code project-all.json} test fixture to {@link Project} instances.
+ *
+ * @author Phillip Webb
+ */
+@State(Scope.Benchmark)
+public class ContentfulQueriesBenchmark {
+
+	private ContentfulQueries queries;
+
+	@Setup
+	public void setup() throws IOException {
+		ObjectMapper objectMapper = new ObjectMapper();
+		ObjectNode response = objectMapper.createObjectNode();
+		try (InputStream projects = new ClassPathResource("project-all.json", getClass()).getInputStream()) {
+			response.putObject("data").putObject("projectCollection").set("items", objectMapper.readTree(projects));
+		}
+		String body = objectMapper.writeValueAsString(response);
+		WebClient webClient = WebClient.builder()
+				.exchangeFunction((request) -> Mono.just(ClientResponse.create(HttpStatus.OK)
+						.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE).body(body).build()))
+				.build();
+		this.queries = new ContentfulQueries(webClient, "token");
+	}
+
+	@Benchmark
+	public List<Project> getProjects() {
+		return this.queries.getProjects().block();
+	}
+
+}
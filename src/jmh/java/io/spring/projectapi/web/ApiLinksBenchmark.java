@@ -0,0 +1,75 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web;
+
+import io.spring.projectapi.web.release.ReleasesController;
+import io.spring.projectapi.web.repository.RepositoriesController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * Benchmarks the per-item cost of building the links of a release with
+ * {@code WebMvcLinkBuilder} compared with {@link ApiLinks}.
+ *
+ * @author Phillip Webb
+ */
+@State(Scope.Thread)
+public class ApiLinksBenchmark {
+
+	private ApiLinks links;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+		this.links = ApiLinks.forCurrentRequest();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Benchmark
+	public void methodOnReleaseLinks(Blackhole blackhole) {
+		Link self = linkTo(methodOn(ReleasesController.class).release("spring-boot", "3.0.0")).withSelfRel();
+		Link repository = linkTo(methodOn(RepositoriesController.class).repository("spring-releases", null))
+				.withRel("repository");
+		blackhole.consume(self);
+		blackhole.consume(repository);
+	}
+
+	@Benchmark
+	public void apiLinksReleaseLinks(Blackhole blackhole) {
+		blackhole.consume(this.links.release("spring-boot", "3.0.0").withSelfRel());
+		blackhole.consume(this.links.repository("spring-releases").withRel("repository"));
+	}
+
+}
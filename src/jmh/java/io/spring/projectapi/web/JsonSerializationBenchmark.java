@@ -0,0 +1,103 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web;
+
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.spring.projectapi.web.generation.Generation;
+import io.spring.projectapi.web.project.Project;
+import io.spring.projectapi.web.release.Release;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule.HalHandlerInstantiator;
+import org.springframework.hateoas.server.core.AnnotationLinkRelationProvider;
+
+/**
+ * Benchmarks serializing {@link Project}, {@link Release} and {@link Generation} HAL
+ * models with Jackson.
+ *
+ * @author Phillip Webb
+ */
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+	private static final String PROJECT = "spring-boot";
+
+	private ObjectMapper objectMapper;
+
+	private EntityModel<Project> project;
+
+	private CollectionModel<EntityModel<Release>> releases;
+
+	private CollectionModel<EntityModel<Generation>> generations;
+
+	@Setup
+	public void setup() {
+		this.objectMapper = new ObjectMapper().registerModule(new Jackson2HalModule())
+				.registerModule(new JavaTimeModule()).disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		this.objectMapper.setHandlerInstantiator(new HalHandlerInstantiator(new AnnotationLinkRelationProvider(),
+				CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+		ApiLinks links = ApiLinks.of("https://api.spring.io");
+		this.project = EntityModel.of(new Project("Spring Boot", PROJECT,
+				"https://github.com/spring-projects/spring-boot", Project.Status.ACTIVE),
+				links.releases(PROJECT).withRel("releases"), links.generations(PROJECT).withRel("generations"),
+				links.project(PROJECT).withSelfRel());
+		this.releases = CollectionModel.of(IntStream.range(0, 100).mapToObj((i) -> {
+			String version = "3.0.%s".formatted(i);
+			Release release = new Release(version, "https://docs.spring.io/spring-boot/docs/%s/api/".formatted(version),
+					"https://docs.spring.io/spring-boot/docs/%s/reference/html/".formatted(version),
+					Release.Status.GENERAL_AVAILABILITY, i == 0);
+			return EntityModel.of(release, links.release(PROJECT, version).withSelfRel(),
+					links.repository("spring-releases").withRel("repository"));
+		}).toList(), links.project(PROJECT).withRel("project"), links.currentRelease(PROJECT).withRel("current"));
+		this.generations = CollectionModel.of(IntStream.range(0, 10).mapToObj((i) -> {
+			Generation generation = new Generation("%s.0.x".formatted(i), LocalDate.of(2010 + i, 1, 1),
+					LocalDate.of(2011 + i, 1, 1), LocalDate.of(2012 + i, 1, 1));
+			return EntityModel.of(generation, links.generation(PROJECT, generation.getName()).withSelfRel(),
+					links.project(PROJECT).withRel("project"));
+		}).toList(), links.project(PROJECT).withRel("project"));
+	}
+
+	@Benchmark
+	public byte[] project() throws JsonProcessingException {
+		return this.objectMapper.writeValueAsBytes(this.project);
+	}
+
+	@Benchmark
+	public byte[] releases() throws JsonProcessingException {
+		return this.objectMapper.writeValueAsBytes(this.releases);
+	}
+
+	@Benchmark
+	public byte[] generations() throws JsonProcessingException {
+		return this.objectMapper.writeValueAsBytes(this.generations);
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import io.spring.projectapi.contentful.ContentfulService;
+import io.spring.projectapi.contentful.ProjectDocumentation;
+import io.spring.projectapi.contentful.ProjectDocumentationIndex;
+import io.spring.projectapi.contentful.ProjectSupport;
+import io.spring.projectapi.contentful.ReactiveContentfulService;
+import io.spring.projectapi.web.generation.Generation;
+import io.spring.projectapi.web.generation.GenerationsController;
+import io.spring.projectapi.web.release.Release;
+import io.spring.projectapi.web.release.ReleasesController;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Benchmarks assembling the HAL models returned by {@link ReleasesController} and
+ * {@link GenerationsController} for a project with a given number of releases and
+ * generations.
+ *
+ * @author Phillip Webb
+ */
+@State(Scope.Thread)
+public class ModelAssemblyBenchmark {
+
+	private static final String PROJECT = "spring-boot";
+
+	@Param({ "10", "100" })
+	public int size;
+
+	private ReleasesController releasesController;
+
+	private GenerationsController generationsController;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		List<ProjectDocumentation> documentations = IntStream.range(0, this.size)
+				.mapToObj((i) -> new ProjectDocumentation("3.0.%s".formatted(i),
+						"https://docs.spring.io/spring-boot/docs/3.0.%s/api/".formatted(i),
+						"https://docs.spring.io/spring-boot/docs/3.0.%s/reference/html/".formatted(i),
+						ProjectDocumentation.Status.GENERAL_AVAILABILITY, null, i == 0))
+				.toList();
+		List<ProjectSupport> supports = IntStream.range(0, this.size)
+				.mapToObj((i) -> new ProjectSupport("%s.0.x".formatted(i), LocalDate.of(2000 + i, 1, 1), null,
+						LocalDate.of(2001 + i, 1, 1), null, LocalDate.of(2002 + i, 1, 1)))
+				.toList();
+		// Stub only so that invocations are not recorded for every iteration
+		ReactiveContentfulService contentfulService = Mockito.mock(ReactiveContentfulService.class,
+				Mockito.withSettings().stubOnly());
+		Mockito.when(contentfulService.getProjectDocumentationIndex(PROJECT))
+				.thenReturn(Mono.just(ProjectDocumentationIndex.of(documentations)));
+		Mockito.when(contentfulService.getProjectSupports(PROJECT)).thenReturn(Flux.fromIterable(supports));
+		this.releasesController = new ReleasesController(Mockito.mock(ContentfulService.class), contentfulService);
+		this.generationsController = new GenerationsController(contentfulService);
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Benchmark
+	public CollectionModel<EntityModel<Release>> releases() {
+		return this.releasesController.releases(PROJECT, null, null, false, null).block().getBody();
+	}
+
+	@Benchmark
+	public CollectionModel<EntityModel<Generation>> generations() {
+		return this.generationsController.generations(PROJECT).block().getBody();
+	}
+
+}
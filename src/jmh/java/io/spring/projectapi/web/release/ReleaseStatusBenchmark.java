@@ -0,0 +1,47 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.release;
+
+import io.spring.projectapi.contentful.ReleaseVersion;
+import io.spring.projectapi.web.release.Release.Status;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for {@link Status#fromVersion(String)} and {@link ReleaseVersion#of(String)}.
+ *
+ * @author Phillip Webb
+ */
+@State(Scope.Benchmark)
+public class ReleaseStatusBenchmark {
+
+	@Param({ "3.0.0", "3.0.0-M1", "3.0.0-RC2", "3.0.1-SNAPSHOT", "Camden.SR5" })
+	public String version;
+
+	@Benchmark
+	public Status fromVersion() {
+		return Status.fromVersion(this.version);
+	}
+
+	@Benchmark
+	public ReleaseVersion releaseVersion() {
+		return ReleaseVersion.of(this.version);
+	}
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.load;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.spring.projectapi.Application;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Runs the application against local stand-ins for Contentful and GitHub and reports
+ * throughput and latency for a mix of read and write requests. Settings are read from
+ * {@code loadtest.*} system properties, for example:
+ * <pre class="code">
+ * ./gradlew loadTest -Dloadtest.duration=1m -Dloadtest.concurrency=64 -Dloadtest.latency=50ms
+ * </pre>
+ * Setting {@code loadtest.compare-virtual-threads=true} runs the same traffic twice, first
+ * on platform threads and then on virtual threads, so that the two reports can be
+ * compared. This requires Java 21 or later and is most useful with a small
+ * {@code loadtest.max-threads} and a high {@code loadtest.latency}.
+ *
+ * @author Phillip Webb
+ * @see LoadTestSettings
+ */
+public final class LoadTest {
+
+	private static final String USERNAME = "load-test";
+
+	private static final String TOKEN = "load-test-token";
+
+	private LoadTest() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+		System.out.println("Load test settings: " + settings);
+		try (StandInServices standIns = new StandInServices(settings)) {
+			standIns.start();
+			if (!settings.isCompareVirtualThreads()) {
+				System.out.println(run(standIns, settings, Map.of()));
+				return;
+			}
+			String platformThreads = run(standIns, settings, Map.of("projects.virtual-threads.enabled", "false"));
+			String virtualThreads = run(standIns, settings, Map.of("projects.virtual-threads.enabled", "true"));
+			System.out.println("Platform threads:%n%s%nVirtual threads:%n%s".formatted(platformThreads,
+					virtualThreads));
+		}
+	}
+
+	private static String run(StandInServices standIns, LoadTestSettings settings, Map<String, String> overrides)
+			throws InterruptedException {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+				.run(applicationArguments(standIns, settings, overrides))) {
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+			TrafficGenerator generator = new TrafficGenerator("http://localhost:" + port, USERNAME, TOKEN,
+					standIns.getSlugs(), settings);
+			System.out.println("Warming up for " + settings.getWarmup());
+			generator.run(settings.getWarmup());
+			System.out.println("Measuring for " + settings.getDuration());
+			return generator.run(settings.getDuration()).report();
+		}
+	}
+
+	private static String[] applicationArguments(StandInServices standIns, LoadTestSettings settings,
+			Map<String, String> overrides) {
+		Map<String, String> properties = new LinkedHashMap<>();
+		properties.put("server.port", "0");
+		properties.put("spring.cloud.azure.keyvault.secret.property-source-enabled", "false");
+		properties.put("projects.contentful.space-id", "load-test");
+		properties.put("projects.contentful.environment-id", "master");
+		properties.put("projects.contentful.access-token", "load-test");
+		properties.put("projects.contentful.content-management-token", "load-test");
+		properties.put("projects.contentful.webhook-secret", "load-test");
+		properties.put("projects.contentful.graphql-url", standIns.getGraphqlUrl());
+		properties.put("projects.contentful.management-url", standIns.getManagementUrl());
+		// The delivery API is only used by catalog sync which has no stand-in
+		properties.put("projects.contentful.delivery-url", standIns.getGraphqlUrl());
+		properties.put("projects.contentful.catalog.sync", "false");
+		properties.put("projects.github.api-url", standIns.getGithubUrl());
+		properties.put("projects.github.org", "load-test");
+		properties.put("projects.github.team", "load-test");
+		if (settings.getMaxThreads() > 0) {
+			properties.put("server.tomcat.threads.max", String.valueOf(settings.getMaxThreads()));
+		}
+		properties.putAll(settings.getApplicationProperties());
+		properties.putAll(overrides);
+		return properties.entrySet().stream().map((entry) -> "--" + entry.getKey() + "=" + entry.getValue())
+				.toArray(String[]::new);
+	}
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.load;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Function;
+
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Settings for a {@link LoadTest} run, read from {@code loadtest.*} system properties.
+ * Any {@code projects.*} system properties are passed to the application unchanged.
+ *
+ * @author Phillip Webb
+ */
+final class LoadTestSettings {
+
+	private static final String PREFIX = "loadtest.";
+
+	private final Duration warmup;
+
+	private final Duration duration;
+
+	private final int concurrency;
+
+	private final double writeRatio;
+
+	private final int projects;
+
+	private final int releases;
+
+	private final int generations;
+
+	private final Duration latency;
+
+	private final double errorRate;
+
+	private final int maxThreads;
+
+	private final boolean compareVirtualThreads;
+
+	private final Map<String, String> applicationProperties;
+
+	private LoadTestSettings(Properties properties) {
+		this.warmup = get(properties, "warmup", DurationStyle::detectAndParse, Duration.ofSeconds(5));
+		this.duration = get(properties, "duration", DurationStyle::detectAndParse, Duration.ofSeconds(30));
+		this.concurrency = get(properties, "concurrency", Integer::valueOf, 32);
+		this.writeRatio = get(properties, "write-ratio", Double::valueOf, 0.05);
+		this.projects = get(properties, "projects", Integer::valueOf, 50);
+		this.releases = get(properties, "releases", Integer::valueOf, 30);
+		this.generations = get(properties, "generations", Integer::valueOf, 10);
+		this.latency = get(properties, "latency", DurationStyle::detectAndParse, Duration.ofMillis(20));
+		this.errorRate = get(properties, "error-rate", Double::valueOf, 0.0);
+		this.maxThreads = get(properties, "max-threads", Integer::valueOf, 0);
+		this.compareVirtualThreads = get(properties, "compare-virtual-threads", Boolean::valueOf, false);
+		this.applicationProperties = new LinkedHashMap<>();
+		properties.stringPropertyNames().stream().filter((name) -> name.startsWith("projects."))
+				.forEach((name) -> this.applicationProperties.put(name, properties.getProperty(name)));
+	}
+
+	private static <T> T get(Properties properties, String name, Function<String, T> parser, T defaultValue) {
+		String value = properties.getProperty(PREFIX + name);
+		return (value != null) ? parser.apply(value) : defaultValue;
+	}
+
+	static LoadTestSettings fromSystemProperties() {
+		return new LoadTestSettings(System.getProperties());
+	}
+
+	/**
+	 * Return how long traffic is sent before measurements start.
+	 * @return the warmup duration
+	 */
+	Duration getWarmup() {
+		return this.warmup;
+	}
+
+	/**
+	 * Return how long traffic is measured for.
+	 * @return the measured duration
+	 */
+	Duration getDuration() {
+		return this.duration;
+	}
+
+	/**
+	 * Return the number of clients sending requests concurrently.
+	 * @return the concurrency
+	 */
+	int getConcurrency() {
+		return this.concurrency;
+	}
+
+	/**
+	 * Return the proportion of requests that add or delete a release.
+	 * @return the write ratio
+	 */
+	double getWriteRatio() {
+		return this.writeRatio;
+	}
+
+	/**
+	 * Return the number of projects served by the stand-in Contentful.
+	 * @return the number of projects
+	 */
+	int getProjects() {
+		return this.projects;
+	}
+
+	/**
+	 * Return the number of releases of each project.
+	 * @return the number of releases
+	 */
+	int getReleases() {
+		return this.releases;
+	}
+
+	/**
+	 * Return the number of generations of each project.
+	 * @return the number of generations
+	 */
+	int getGenerations() {
+		return this.generations;
+	}
+
+	/**
+	 * Return the latency added to every stand-in response.
+	 * @return the stand-in latency
+	 */
+	Duration getLatency() {
+		return this.latency;
+	}
+
+	/**
+	 * Return the proportion of stand-in requests that fail with a server error.
+	 * @return the error rate
+	 */
+	double getErrorRate() {
+		return this.errorRate;
+	}
+
+	/**
+	 * Return the maximum number of Tomcat request threads, or {@code 0} to use the
+	 * application default.
+	 * @return the maximum number of request threads
+	 */
+	int getMaxThreads() {
+		return this.maxThreads;
+	}
+
+	/**
+	 * Return if traffic should be run on platform threads and then on virtual threads.
+	 * @return if platform and virtual threads should be compared
+	 */
+	boolean isCompareVirtualThreads() {
+		return this.compareVirtualThreads;
+	}
+
+	/**
+	 * Return additional properties to pass to the application.
+	 * @return the application properties
+	 */
+	Map<String, String> getApplicationProperties() {
+		return this.applicationProperties;
+	}
+
+	@Override
+	public String toString() {
+		return "warmup=%s, duration=%s, concurrency=%s, writeRatio=%s, projects=%s, releases=%s, generations=%s, "
+				.formatted(this.warmup, this.duration, this.concurrency, this.writeRatio, this.projects,
+						this.releases, this.generations)
+				+ "latency=%s, errorRate=%s, maxThreads=%s, compareVirtualThreads=%s, application=%s".formatted(
+						this.latency, this.errorRate, this.maxThreads, this.compareVirtualThreads,
+						this.applicationProperties);
+	}
+
+}
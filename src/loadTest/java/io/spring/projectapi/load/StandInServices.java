@@ -0,0 +1,334 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.load;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+/**
+ * Local stand-ins for the Contentful GraphQL, Contentful management and GitHub APIs
+ * that serve generated project data with configurable latency and error injection.
+ *
+ * @author Phillip Webb
+ */
+final class StandInServices implements AutoCloseable {
+
+	private static final String LOCALE = "en-US";
+
+	private static final String[] STATUSES = { "ACTIVE", "INCUBATING", "COMMUNITY", "END_OF_LIFE" };
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final LoadTestSettings settings;
+
+	private final List<String> slugs;
+
+	private final Map<String, List<Map<String, Object>>> documentations = new ConcurrentHashMap<>();
+
+	private final Map<String, List<Map<String, Object>>> supports = new ConcurrentHashMap<>();
+
+	private final MockWebServer graphql = new MockWebServer();
+
+	private final MockWebServer management = new MockWebServer();
+
+	private final MockWebServer github = new MockWebServer();
+
+	StandInServices(LoadTestSettings settings) {
+		this.settings = settings;
+		this.slugs = IntStream.range(0, settings.getProjects()).mapToObj("project-%03d"::formatted).toList();
+		for (String slug : this.slugs) {
+			this.documentations.put(slug, generateDocumentations(settings.getReleases()));
+			this.supports.put(slug, generateSupports(settings.getGenerations()));
+		}
+		this.graphql.setDispatcher(new StandInDispatcher(this::dispatchGraphql));
+		this.management.setDispatcher(new StandInDispatcher(this::dispatchManagement));
+		this.github.setDispatcher(new StandInDispatcher(this::dispatchGithub));
+	}
+
+	private List<Map<String, Object>> generateDocumentations(int count) {
+		List<Map<String, Object>> documentations = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			String version = "%s.%s.%s".formatted(i / 100 + 1, (i / 10) % 10, i % 10);
+			documentations.add(documentation(version, "GENERAL_AVAILABILITY", "RELEASE", i == count - 1));
+		}
+		return documentations;
+	}
+
+	private Map<String, Object> documentation(String version, String status, String repository, boolean current) {
+		Map<String, Object> documentation = new LinkedHashMap<>();
+		documentation.put("version", version);
+		documentation.put("api", "https://docs.example.com/{version}/api/");
+		documentation.put("ref", "https://docs.example.com/{version}/reference/html/");
+		documentation.put("status", status);
+		documentation.put("repository", repository);
+		documentation.put("current", current);
+		return documentation;
+	}
+
+	private List<Map<String, Object>> generateSupports(int count) {
+		List<Map<String, Object>> supports = new ArrayList<>();
+		LocalDate initial = LocalDate.of(2015, 1, 1);
+		for (int i = 0; i < count; i++) {
+			LocalDate date = initial.plusMonths(6L * i);
+			Map<String, Object> support = new LinkedHashMap<>();
+			support.put("branch", "%s.%s.x".formatted(i / 10 + 1, i % 10));
+			support.put("initialDate", date.toString());
+			support.put("ossEnforcedEnd", date.plusYears(1).toString());
+			support.put("ossPolicyEnd", date.plusYears(1).toString());
+			support.put("commercialEnforcedEnd", date.plusYears(2).toString());
+			support.put("commercialPolicyEnd", date.plusYears(2).toString());
+			supports.add(support);
+		}
+		return supports;
+	}
+
+	void start() throws IOException {
+		this.graphql.start();
+		this.management.start();
+		this.github.start();
+	}
+
+	/**
+	 * Return the slugs of the generated projects.
+	 * @return the project slugs
+	 */
+	List<String> getSlugs() {
+		return this.slugs;
+	}
+
+	String getGraphqlUrl() {
+		return url(this.graphql);
+	}
+
+	String getManagementUrl() {
+		return url(this.management);
+	}
+
+	String getGithubUrl() {
+		return url(this.github);
+	}
+
+	private String url(MockWebServer server) {
+		String url = server.url("/").toString();
+		return url.substring(0, url.length() - 1);
+	}
+
+	private MockResponse dispatchGraphql(RecordedRequest request) {
+		Map<String, Object> body = read(request.getBody().readUtf8(), new TypeReference<>() {
+		});
+		String query = (String) body.get("query");
+		@SuppressWarnings("unchecked")
+		Map<String, Object> variables = (Map<String, Object>) body.getOrDefault("variables", Map.of());
+		String slug = (String) variables.get("slug");
+		if (query.contains("query releases")) {
+			List<Map<String, Object>> documentation = this.documentations.get(slug);
+			return projectCollection(itemsFor(slug, (item) -> item.put("documentation", documentation)));
+		}
+		if (query.contains("query generations")) {
+			return projectCollection(itemsFor(slug, (item) -> item.put("support", this.supports.get(slug))));
+		}
+		if (query.contains("query project(")) {
+			return projectCollection(itemsFor(slug, (item) -> item.putAll(project(slug, false))));
+		}
+		if (query.contains("query catalogProject")) {
+			return projectCollection(itemsFor(slug, (item) -> item.putAll(project(slug, true))));
+		}
+		if (query.contains("query catalog(")) {
+			int skip = ((Number) variables.get("skip")).intValue();
+			int limit = ((Number) variables.get("limit")).intValue();
+			List<Map<String, Object>> items = this.slugs.stream().skip(skip).limit(limit)
+					.map((candidate) -> project(candidate, true)).toList();
+			Map<String, Object> collection = new LinkedHashMap<>();
+			collection.put("total", this.slugs.size());
+			collection.put("items", items);
+			return json(Map.of("data", Map.of("projectCollection", collection)));
+		}
+		return projectCollection(this.slugs.stream().map((candidate) -> project(candidate, false)).toList());
+	}
+
+	private List<Map<String, Object>> itemsFor(String slug, Consumer<Map<String, Object>> item) {
+		if (!this.documentations.containsKey(slug)) {
+			return List.of();
+		}
+		Map<String, Object> result = new LinkedHashMap<>();
+		item.accept(result);
+		return List.of(result);
+	}
+
+	private Map<String, Object> project(String slug, boolean catalog) {
+		Map<String, Object> project = new LinkedHashMap<>();
+		if (catalog) {
+			project.put("sys", Map.of("id", entryId(slug)));
+		}
+		project.put("title", "Project " + slug);
+		project.put("slug", slug);
+		project.put("github", "example/" + slug);
+		project.put("status", STATUSES[Math.abs(slug.hashCode()) % STATUSES.length]);
+		if (catalog) {
+			project.put("documentation", this.documentations.get(slug));
+			project.put("support", this.supports.get(slug));
+		}
+		return project;
+	}
+
+	private MockResponse projectCollection(List<Map<String, Object>> items) {
+		return json(Map.of("data", Map.of("projectCollection", Map.of("items", items))));
+	}
+
+	private MockResponse dispatchManagement(RecordedRequest request) {
+		HttpUrl url = request.getRequestUrl();
+		String method = request.getMethod();
+		if ("GET".equals(method) && url.encodedPath().endsWith("/entries")) {
+			String slugs = url.queryParameter("fields.slug[in]");
+			List<Map<String, Object>> items = Arrays
+					.stream(((slugs != null) ? slugs : url.queryParameter("fields.slug")).split(","))
+					.filter(this.documentations::containsKey).map(this::entry).toList();
+			Map<String, Object> array = new LinkedHashMap<>();
+			array.put("sys", Map.of("type", "Array"));
+			array.put("total", items.size());
+			array.put("skip", 0);
+			array.put("limit", 100);
+			array.put("items", items);
+			return json(array);
+		}
+		if ("GET".equals(method) && url.encodedPath().contains("/entries/")) {
+			String slug = slugForEntryId(url.pathSegments().get(url.pathSize() - 1));
+			return (slug != null) ? json(entry(slug))
+					: new MockResponse().setResponseCode(HttpStatus.NOT_FOUND.value());
+		}
+		if ("PUT".equals(method)) {
+			Map<String, Object> entry = read(request.getBody().readUtf8(), new TypeReference<>() {
+			});
+			@SuppressWarnings("unchecked")
+			Map<String, Map<String, Object>> fields = (Map<String, Map<String, Object>>) entry.get("fields");
+			String slug = (String) fields.get("slug").get(LOCALE);
+			@SuppressWarnings("unchecked")
+			List<Map<String, Object>> documentation = (List<Map<String, Object>>) fields.get("documentation")
+					.get(LOCALE);
+			this.documentations.put(slug, new ArrayList<>(documentation));
+			return json(entry(slug));
+		}
+		return new MockResponse().setResponseCode(HttpStatus.NOT_FOUND.value());
+	}
+
+	private Map<String, Object> entry(String slug) {
+		Map<String, Object> sys = new LinkedHashMap<>();
+		sys.put("id", entryId(slug));
+		sys.put("type", "Entry");
+		sys.put("version", 1);
+		sys.put("contentType", link("ContentType", "project"));
+		sys.put("space", link("Space", "load-test"));
+		sys.put("environment", link("Environment", "master"));
+		Map<String, Object> fields = new LinkedHashMap<>();
+		fields.put("slug", Map.of(LOCALE, slug));
+		fields.put("documentation", Map.of(LOCALE, this.documentations.get(slug)));
+		return Map.of("sys", sys, "fields", fields);
+	}
+
+	private Map<String, Object> link(String linkType, String id) {
+		return Map.of("sys", Map.of("type", "Link", "linkType", linkType, "id", id));
+	}
+
+	private String entryId(String slug) {
+		return "entry-" + slug;
+	}
+
+	private String slugForEntryId(String entryId) {
+		String slug = entryId.substring("entry-".length());
+		return (this.documentations.containsKey(slug)) ? slug : null;
+	}
+
+	private MockResponse dispatchGithub(RecordedRequest request) {
+		if (request.getPath().contains("/memberships/")) {
+			return json(Map.of("state", "active"));
+		}
+		return new MockResponse().setResponseCode(HttpStatus.NOT_FOUND.value());
+	}
+
+	private <T> T read(String json, TypeReference<T> type) {
+		try {
+			return this.objectMapper.readValue(json, type);
+		}
+		catch (JsonProcessingException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private MockResponse json(Object body) {
+		try {
+			return new MockResponse().setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+					.setBody(this.objectMapper.writeValueAsString(body));
+		}
+		catch (JsonProcessingException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.graphql.shutdown();
+		this.management.shutdown();
+		this.github.shutdown();
+	}
+
+	/**
+	 * {@link Dispatcher} that applies the configured latency and error rate.
+	 */
+	private final class StandInDispatcher extends Dispatcher {
+
+		private final Function<RecordedRequest, MockResponse> handler;
+
+		StandInDispatcher(Function<RecordedRequest, MockResponse> handler) {
+			this.handler = handler;
+		}
+
+		@Override
+		public MockResponse dispatch(RecordedRequest request) {
+			MockResponse response = (ThreadLocalRandom.current().nextDouble() < StandInServices.this.settings
+					.getErrorRate()) ? new MockResponse().setResponseCode(HttpStatus.SERVICE_UNAVAILABLE.value())
+							: this.handler.apply(request);
+			return response.setBodyDelay(StandInServices.this.settings.getLatency().toMillis(), TimeUnit.MILLISECONDS);
+		}
+
+	}
+
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+/**
+ * Sends a weighted mix of read and write requests to a running application and records
+ * per-operation latency.
+ *
+ * @author Phillip Webb
+ */
+final class TrafficGenerator {
+
+	private static final AtomicLong versionCounter = new AtomicLong();
+
+	private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+
+	private final String baseUrl;
+
+	private final String authorization;
+
+	private final List<String> slugs;
+
+	private final LoadTestSettings settings;
+
+	TrafficGenerator(String baseUrl, String username, String password, List<String> slugs,
+			LoadTestSettings settings) {
+		this.baseUrl = baseUrl;
+		this.authorization = "Basic " + Base64.getEncoder()
+				.encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+		this.slugs = slugs;
+		this.settings = settings;
+	}
+
+	/**
+	 * Send requests for the given duration.
+	 * @param duration how long to send requests for
+	 * @return the recorded results
+	 * @throws InterruptedException if interrupted while waiting for clients to finish
+	 */
+	Results run(Duration duration) throws InterruptedException {
+		long deadline = System.nanoTime() + duration.toNanos();
+		List<Results> clientResults = new ArrayList<>();
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < this.settings.getConcurrency(); i++) {
+			Results results = new Results(duration);
+			clientResults.add(results);
+			Thread thread = new Thread(() -> runClient(deadline, results), "load-client-" + i);
+			thread.start();
+			threads.add(thread);
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		Results merged = new Results(duration);
+		clientResults.forEach(merged::merge);
+		return merged;
+	}
+
+	private void runClient(long deadline, Results results) {
+		while (System.nanoTime() < deadline) {
+			Operation operation = nextOperation();
+			String slug = this.slugs.get(ThreadLocalRandom.current().nextInt(this.slugs.size()));
+			HttpRequest request = operation.createRequest(this, slug);
+			long start = System.nanoTime();
+			boolean success;
+			try {
+				int status = this.client.send(request, BodyHandlers.discarding()).statusCode();
+				success = status < 400;
+			}
+			catch (Exception ex) {
+				success = false;
+			}
+			results.record(operation, System.nanoTime() - start, success);
+		}
+	}
+
+	private Operation nextOperation() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		if (random.nextDouble() < this.settings.getWriteRatio()) {
+			return (random.nextBoolean()) ? Operation.ADD_RELEASE : Operation.DELETE_RELEASE;
+		}
+		Operation[] reads = Operation.READS;
+		return reads[random.nextInt(reads.length)];
+	}
+
+	private HttpRequest get(String path) {
+		return HttpRequest.newBuilder(URI.create(this.baseUrl + path)).GET()
+				.header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE).build();
+	}
+
+	private HttpRequest addRelease(String slug) {
+		String version = "9.%s.0".formatted(versionCounter.incrementAndGet());
+		String body = "{\"version\":\"%s\",\"apiDocUrl\":\"https://docs.example.com/api/\",".formatted(version)
+				+ "\"referenceDocUrl\":\"https://docs.example.com/reference/\"}";
+		return HttpRequest.newBuilder(URI.create(this.baseUrl + "/projects/" + slug + "/releases"))
+				.POST(BodyPublishers.ofString(body)).header(HttpHeaders.AUTHORIZATION, this.authorization)
+				.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE).build();
+	}
+
+	private HttpRequest deleteRelease(String slug) {
+		String version = "9.%s.0".formatted(Math.max(1, versionCounter.get()));
+		return HttpRequest.newBuilder(URI.create(this.baseUrl + "/projects/" + slug + "/releases/" + version))
+				.DELETE().header(HttpHeaders.AUTHORIZATION, this.authorization).build();
+	}
+
+	/**
+	 * The operations that can be performed against the application.
+	 */
+	enum Operation {
+
+		LIST_PROJECTS {
+
+			@Override
+			HttpRequest createRequest(TrafficGenerator generator, String slug) {
+				return generator.get("/projects");
+			}
+
+		},
+
+		GET_PROJECT {
+
+			@Override
+			HttpRequest createRequest(TrafficGenerator generator, String slug) {
+				return generator.get("/projects/" + slug);
+			}
+
+		},
+
+		LIST_RELEASES {
+
+			@Override
+			HttpRequest createRequest(TrafficGenerator generator, String slug) {
+				return generator.get("/projects/" + slug + "/releases");
+			}
+
+		},
+
+		LIST_GENERATIONS {
+
+			@Override
+			HttpRequest createRequest(TrafficGenerator generator, String slug) {
+				return generator.get("/projects/" + slug + "/generations");
+			}
+
+		},
+
+		ADD_RELEASE {
+
+			@Override
+			HttpRequest createRequest(TrafficGenerator generator, String slug) {
+				return generator.addRelease(slug);
+			}
+
+		},
+
+		DELETE_RELEASE {
+
+			@Override
+			HttpRequest createRequest(TrafficGenerator generator, String slug) {
+				return generator.deleteRelease(slug);
+			}
+
+		};
+
+		static final Operation[] READS = { LIST_PROJECTS, GET_PROJECT, LIST_RELEASES, LIST_GENERATIONS };
+
+		abstract HttpRequest createRequest(TrafficGenerator generator, String slug);
+
+	}
+
+	/**
+	 * Latency samples and error counts recorded by one or more clients.
+	 */
+	static final class Results {
+
+		private final Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+
+		private final Duration elapsed;
+
+		Results(Duration elapsed) {
+			this.elapsed = elapsed;
+		}
+
+		void record(Operation operation, long nanos, boolean success) {
+			this.samples.computeIfAbsent(operation, (key) -> new Samples()).add(nanos, success);
+		}
+
+		void merge(Results other) {
+			other.samples.forEach((operation, samples) -> this.samples
+					.computeIfAbsent(operation, (key) -> new Samples()).merge(samples));
+		}
+
+		/**
+		 * Return a report of the results.
+		 * @return the report
+		 */
+		String report() {
+			StringBuilder report = new StringBuilder();
+			report.append("%-18s %9s %9s %9s %9s %9s %9s %7s%n".formatted("operation", "count", "req/s", "p50(ms)",
+					"p90(ms)", "p99(ms)", "max(ms)", "errors"));
+			Samples total = new Samples();
+			this.samples.forEach((operation, samples) -> {
+				report.append(line(operation.name(), samples));
+				total.merge(samples);
+			});
+			report.append(line("TOTAL", total));
+			return report.toString();
+		}
+
+		private String line(String name, Samples samples) {
+			double seconds = this.elapsed.toNanos() / 1_000_000_000.0;
+			long[] sorted = samples.sorted();
+			return "%-18s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %7d%n".formatted(name, sorted.length,
+					sorted.length / seconds, percentile(sorted, 0.50), percentile(sorted, 0.90),
+					percentile(sorted, 0.99), percentile(sorted, 1.0), samples.errors);
+		}
+
+		private double percentile(long[] sorted, double percentile) {
+			if (sorted.length == 0) {
+				return 0;
+			}
+			int index = (int) Math.ceil(percentile * sorted.length) - 1;
+			return sorted[Math.max(0, index)] / 1_000_000.0;
+		}
+
+	}
+
+	/**
+	 * Latency samples for a single operation.
+	 */
+	private static final class Samples {
+
+		private long[] nanos = new long[1024];
+
+		private int size;
+
+		private long errors;
+
+		void add(long nanos, boolean success) {
+			if (this.size == this.nanos.length) {
+				this.nanos = Arrays.copyOf(this.nanos, this.size * 2);
+			}
+			this.nanos[this.size++] = nanos;
+			this.errors += (success) ? 0 : 1;
+		}
+
+		void merge(Samples other) {
+			for (int i = 0; i < other.size; i++) {
+				add(other.nanos[i], true);
+			}
+			this.errors += other.errors;
+		}
+
+		long[] sorted() {
+			long[] sorted = Arrays.copyOf(this.nanos, this.size);
+			Arrays.sort(sorted);
+			return sorted;
+		}
+
+	}
+
+}
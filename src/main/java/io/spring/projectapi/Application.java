@@ -16,13 +16,24 @@
 
 package io.spring.projectapi;
 
+import java.util.concurrent.Executor;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.spring.projectapi.ApplicationProperties.Contentful;
+import io.spring.projectapi.ApplicationProperties.Contentful.Cache;
+import io.spring.projectapi.ApplicationProperties.Contentful.Catalog;
+import io.spring.projectapi.contentful.ContentfulCacheSettings;
+import io.spring.projectapi.contentful.ContentfulCatalogSettings;
 import io.spring.projectapi.contentful.ContentfulService;
+import io.spring.projectapi.contentful.ReactiveContentfulService;
+import org.apache.coyote.ProtocolHandler;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.web.reactive.function.client.WebClient;
 
@@ -30,18 +41,47 @@ import org.springframework.web.reactive.function.client.WebClient;
 @EnableConfigurationProperties(ApplicationProperties.class)
 public class Application {
 
-	private static final String BASE_URL = "https://graphql.contentful.com/content/v1/spaces/%s/environments/%s";
+	private static final String BASE_URL = "%s/content/v1/spaces/%s/environments/%s";
+
+	private static final String DELIVERY_URL = "%s/spaces/%s/environments/%s";
 
 	@Bean
 	public ContentfulService contentfulService(ObjectMapper objectMapper, WebClient.Builder webClientBuilder,
-			ApplicationProperties properties) {
+			ApplicationProperties properties, MeterRegistry meterRegistry) {
 		Contentful contentful = properties.getContentful();
 		String accessToken = contentful.getAccessToken();
 		String spaceId = contentful.getSpaceId();
 		String environmentId = contentful.getEnvironmentId();
-		String baseUrl = BASE_URL.formatted(spaceId, environmentId);
-		WebClient webClient = webClientBuilder.baseUrl(baseUrl).build();
-		return new ContentfulService(objectMapper, webClient, accessToken, spaceId, environmentId);
+		String baseUrl = BASE_URL.formatted(contentful.getGraphqlUrl(), spaceId, environmentId);
+		String deliveryUrl = DELIVERY_URL.formatted(contentful.getDeliveryUrl(), spaceId, environmentId);
+		WebClient webClient = webClientBuilder.clone().baseUrl(baseUrl).build();
+		WebClient deliveryWebClient = webClientBuilder.clone().baseUrl(deliveryUrl).build();
+		ContentfulCacheSettings cacheSettings = asCacheSettings(contentful.getCache());
+		ContentfulCatalogSettings catalogSettings = asCatalogSettings(contentful.getCatalog());
+		Executor executor = (properties.getVirtualThreads().isEnabled()) ? VirtualThreads.newExecutor() : null;
+		return new ContentfulService(objectMapper, webClient, deliveryWebClient, accessToken, spaceId, environmentId,
+				contentful.getManagementUrl(), cacheSettings, catalogSettings, executor, meterRegistry);
+	}
+
+	@Bean
+	public ReactiveContentfulService reactiveContentfulService(ContentfulService contentfulService) {
+		return contentfulService.reactive();
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "projects.virtual-threads.enabled", havingValue = "true")
+	public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadsProtocolHandlerCustomizer() {
+		return VirtualThreads.tomcatProtocolHandlerCustomizer();
+	}
+
+	private ContentfulCacheSettings asCacheSettings(Cache cache) {
+		return new ContentfulCacheSettings(cache.getMaximumSize(), cache.getProjectsTtl(), cache.getProjectTtl(),
+				cache.getProjectDocumentationsTtl(), cache.getProjectSupportsTtl(), cache.getMaxStaleness());
+	}
+
+	private ContentfulCatalogSettings asCatalogSettings(Catalog catalog) {
+		return new ContentfulCatalogSettings(catalog.isEnabled(), catalog.getRefreshInterval(),
+				catalog.getMaxStaleness(), catalog.isSync(), catalog.getFile());
 	}
 
 	public static void main(String[] args) {
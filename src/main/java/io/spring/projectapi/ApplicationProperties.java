@@ -16,9 +16,13 @@
 
 package io.spring.projectapi;
 
+import java.nio.file.Path;
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.ConstructorBinding;
 import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Application configuration properties.
@@ -32,10 +36,17 @@ public class ApplicationProperties {
 
 	private final Github github;
 
+	private final VirtualThreads virtualThreads;
+
+	private final ResponseCache responseCache;
+
 	@ConstructorBinding
-	ApplicationProperties(@DefaultValue Contentful contentful, @DefaultValue Github github) {
+	ApplicationProperties(@DefaultValue Contentful contentful, @DefaultValue Github github,
+			@DefaultValue VirtualThreads virtualThreads, @DefaultValue ResponseCache responseCache) {
 		this.contentful = contentful;
 		this.github = github;
+		this.virtualThreads = virtualThreads;
+		this.responseCache = responseCache;
 	}
 
 	public Contentful getContentful() {
@@ -46,6 +57,14 @@ public class ApplicationProperties {
 		return this.github;
 	}
 
+	public VirtualThreads getVirtualThreads() {
+		return this.virtualThreads;
+	}
+
+	public ResponseCache getResponseCache() {
+		return this.responseCache;
+	}
+
 	public static class Contentful {
 
 		private String accessToken;
@@ -56,12 +75,47 @@ public class ApplicationProperties {
 
 		private String environmentId;
 
+		/**
+		 * Shared secret that Contentful webhooks must send in the
+		 * 'X-Webhook-Secret' header.
+		 */
+		private String webhookSecret;
+
+		/**
+		 * Base URL of the Contentful GraphQL Content API.
+		 */
+		private final String graphqlUrl;
+
+		/**
+		 * Base URL of the Contentful Content Delivery API.
+		 */
+		private final String deliveryUrl;
+
+		/**
+		 * Base URL of the Contentful Content Management API.
+		 */
+		private final String managementUrl;
+
+		private final Cache cache;
+
+		private final Catalog catalog;
+
 		@ConstructorBinding
-		Contentful(String accessToken, String contentManagementToken, String spaceId, String environmentId) {
+		Contentful(String accessToken, String contentManagementToken, String spaceId, String environmentId,
+				String webhookSecret, @DefaultValue("https://graphql.contentful.com") String graphqlUrl,
+				@DefaultValue("https://cdn.contentful.com") String deliveryUrl,
+				@DefaultValue("https://api.contentful.com") String managementUrl, @DefaultValue Cache cache,
+				@DefaultValue Catalog catalog) {
 			this.accessToken = accessToken;
 			this.contentManagementToken = contentManagementToken;
 			this.spaceId = spaceId;
 			this.environmentId = environmentId;
+			this.webhookSecret = webhookSecret;
+			this.graphqlUrl = graphqlUrl;
+			this.deliveryUrl = deliveryUrl;
+			this.managementUrl = managementUrl;
+			this.cache = cache;
+			this.catalog = catalog;
 		}
 
 		public String getAccessToken() {
@@ -80,6 +134,165 @@ public class ApplicationProperties {
 			return this.contentManagementToken;
 		}
 
+		public String getWebhookSecret() {
+			return this.webhookSecret;
+		}
+
+		public String getGraphqlUrl() {
+			return this.graphqlUrl;
+		}
+
+		public String getDeliveryUrl() {
+			return this.deliveryUrl;
+		}
+
+		public String getManagementUrl() {
+			return this.managementUrl;
+		}
+
+		public Cache getCache() {
+			return this.cache;
+		}
+
+		public Catalog getCatalog() {
+			return this.catalog;
+		}
+
+		public static class Cache {
+
+			/**
+			 * Maximum number of entries held by each of the query caches.
+			 */
+			private final long maximumSize;
+
+			/**
+			 * Time to live of the cached list of all projects.
+			 */
+			private final Duration projectsTtl;
+
+			/**
+			 * Time to live of a cached project.
+			 */
+			private final Duration projectTtl;
+
+			/**
+			 * Time to live of the cached documentation of a project.
+			 */
+			private final Duration projectDocumentationsTtl;
+
+			/**
+			 * Time to live of the cached support of a project.
+			 */
+			private final Duration projectSupportsTtl;
+
+			/**
+			 * How long past its time to live a cached entry may still be served while it
+			 * is refreshed in the background. When zero, expired entries are always
+			 * reloaded before being returned.
+			 */
+			private final Duration maxStaleness;
+
+			@ConstructorBinding
+			Cache(@DefaultValue("500") long maximumSize, @DefaultValue("10m") Duration projectsTtl,
+					@DefaultValue("10m") Duration projectTtl, @DefaultValue("5m") Duration projectDocumentationsTtl,
+					@DefaultValue("10m") Duration projectSupportsTtl, @DefaultValue("0") Duration maxStaleness) {
+				this.maximumSize = maximumSize;
+				this.projectsTtl = projectsTtl;
+				this.projectTtl = projectTtl;
+				this.projectDocumentationsTtl = projectDocumentationsTtl;
+				this.projectSupportsTtl = projectSupportsTtl;
+				this.maxStaleness = maxStaleness;
+			}
+
+			public long getMaximumSize() {
+				return this.maximumSize;
+			}
+
+			public Duration getProjectsTtl() {
+				return this.projectsTtl;
+			}
+
+			public Duration getProjectTtl() {
+				return this.projectTtl;
+			}
+
+			public Duration getProjectDocumentationsTtl() {
+				return this.projectDocumentationsTtl;
+			}
+
+			public Duration getProjectSupportsTtl() {
+				return this.projectSupportsTtl;
+			}
+
+			public Duration getMaxStaleness() {
+				return this.maxStaleness;
+			}
+
+		}
+
+		public static class Catalog {
+
+			/**
+			 * Whether to serve all reads from an in-memory catalog of every project that
+			 * is loaded with a single query, rather than from individually cached queries.
+			 */
+			private final boolean enabled;
+
+			/**
+			 * Age after which the catalog is reloaded in the background.
+			 */
+			private final Duration refreshInterval;
+
+			/**
+			 * How long past its refresh interval the catalog may still be served if it
+			 * cannot be reloaded.
+			 */
+			private final Duration maxStaleness;
+
+			/**
+			 * Whether to reload the catalog incrementally using the Contentful Sync API
+			 * rather than querying every project on each reload.
+			 */
+			private final boolean sync;
+
+			/**
+			 * File used to persist the last loaded catalog so that it can be served
+			 * immediately on startup and refreshed from Contentful in the background.
+			 */
+			private final Path file;
+
+			@ConstructorBinding
+			Catalog(@DefaultValue("false") boolean enabled, @DefaultValue("5m") Duration refreshInterval,
+					@DefaultValue("1h") Duration maxStaleness, @DefaultValue("false") boolean sync, Path file) {
+				this.enabled = enabled;
+				this.refreshInterval = refreshInterval;
+				this.maxStaleness = maxStaleness;
+				this.sync = sync;
+				this.file = file;
+			}
+
+			public boolean isEnabled() {
+				return this.enabled;
+			}
+
+			public Duration getRefreshInterval() {
+				return this.refreshInterval;
+			}
+
+			public Duration getMaxStaleness() {
+				return this.maxStaleness;
+			}
+
+			public boolean isSync() {
+				return this.sync;
+			}
+
+			public Path getFile() {
+				return this.file;
+			}
+
+		}
+
 	}
 
 	public static class Github {
@@ -97,10 +310,20 @@ public class ApplicationProperties {
 		 */
 		private String team;
 
+		/**
+		 * Base URL of the GitHub REST API.
+		 */
+		private final String apiUrl;
+
+		private final MembershipCache membershipCache;
+
 		@ConstructorBinding
-		Github(String org, String team) {
+		Github(String org, String team, @DefaultValue("https://api.github.com") String apiUrl,
+				@DefaultValue MembershipCache membershipCache) {
 			this.org = org;
 			this.team = team;
+			this.apiUrl = apiUrl;
+			this.membershipCache = membershipCache;
 		}
 
 		public String getOrg() {
@@ -111,6 +334,112 @@ public class ApplicationProperties {
 			return this.team;
 		}
 
+		public String getApiUrl() {
+			return this.apiUrl;
+		}
+
+		public MembershipCache getMembershipCache() {
+			return this.membershipCache;
+		}
+
+		public static class MembershipCache {
+
+			/**
+			 * Whether to cache team membership decisions so that repeated requests with
+			 * the same credentials do not call GitHub.
+			 */
+			private final boolean enabled;
+
+			/**
+			 * Maximum number of cached decisions.
+			 */
+			private final long maximumSize;
+
+			/**
+			 * Time to live of a decision that the user is an active team member.
+			 */
+			private final Duration memberTtl;
+
+			/**
+			 * Time to live of a decision that the user is not an active team member.
+			 */
+			private final Duration nonMemberTtl;
+
+			@ConstructorBinding
+			MembershipCache(@DefaultValue("true") boolean enabled, @DefaultValue("1000") long maximumSize,
+					@DefaultValue("5m") Duration memberTtl, @DefaultValue("30s") Duration nonMemberTtl) {
+				this.enabled = enabled;
+				this.maximumSize = maximumSize;
+				this.memberTtl = memberTtl;
+				this.nonMemberTtl = nonMemberTtl;
+			}
+
+			public boolean isEnabled() {
+				return this.enabled;
+			}
+
+			public long getMaximumSize() {
+				return this.maximumSize;
+			}
+
+			public Duration getMemberTtl() {
+				return this.memberTtl;
+			}
+
+			public Duration getNonMemberTtl() {
+				return this.nonMemberTtl;
+			}
+
+		}
+
+	}
+
+	public static class VirtualThreads {
+
+		/**
+		 * Whether to handle requests and blocking Contentful calls on virtual threads.
+		 * Requires Java 21 or later.
+		 */
+		private final boolean enabled;
+
+		@ConstructorBinding
+		VirtualThreads(@DefaultValue("false") boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+	}
+
+	public static class ResponseCache {
+
+		/**
+		 * Whether to cache rendered API responses until the project data they were
+		 * rendered from changes.
+		 */
+		private final boolean enabled;
+
+		/**
+		 * Maximum size of all cached responses, including compressed variants.
+		 */
+		private final DataSize maximumSize;
+
+		@ConstructorBinding
+		ResponseCache(@DefaultValue("true") boolean enabled, @DefaultValue("32MB") DataSize maximumSize) {
+			this.enabled = enabled;
+			this.maximumSize = maximumSize;
+		}
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public DataSize getMaximumSize() {
+			return this.maximumSize;
+		}
+
 	}
 
 }
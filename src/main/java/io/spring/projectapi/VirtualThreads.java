@@ -0,0 +1,72 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.coyote.ProtocolHandler;
+
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Support for running blocking work on virtual threads. Virtual threads require a Java
+ * 21 runtime so are accessed reflectively to allow the application to continue to be
+ * compiled for Java 17.
+ *
+ * @author Phillip Webb
+ */
+final class VirtualThreads {
+
+	private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = ReflectionUtils.findMethod(Executors.class,
+			"newVirtualThreadPerTaskExecutor");
+
+	private VirtualThreads() {
+	}
+
+	/**
+	 * Return if virtual threads are supported by the current runtime.
+	 * @return if virtual threads are supported
+	 */
+	static boolean isSupported() {
+		return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+	}
+
+	/**
+	 * Return a new executor that starts a virtual thread for each task.
+	 * @return a new executor
+	 * @throws IllegalStateException if virtual threads are not supported
+	 */
+	static ExecutorService newExecutor() {
+		Assert.state(isSupported(), "Virtual threads require Java 21 or later");
+		return (ExecutorService) ReflectionUtils.invokeMethod(NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR, null);
+	}
+
+	/**
+	 * Return a {@link TomcatProtocolHandlerCustomizer} that handles requests on virtual
+	 * threads.
+	 * @return the customizer
+	 */
+	static TomcatProtocolHandlerCustomizer<ProtocolHandler> tomcatProtocolHandlerCustomizer() {
+		ExecutorService executor = newExecutor();
+		return (protocolHandler) -> protocolHandler.setExecutor(executor);
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Settings used to configure the caching of Contentful query results.
+ *
+ * @author Phillip Webb
+ */
+public final class ContentfulCacheSettings {
+
+	private final long maximumSize;
+
+	private final Duration projectsTtl;
+
+	private final Duration projectTtl;
+
+	private final Duration projectDocumentationsTtl;
+
+	private final Duration projectSupportsTtl;
+
+	private final Duration maxStaleness;
+
+	public ContentfulCacheSettings(long maximumSize, Duration projectsTtl, Duration projectTtl,
+			Duration projectDocumentationsTtl, Duration projectSupportsTtl, Duration maxStaleness) {
+		Assert.isTrue(maximumSize >= 0, "'maximumSize' must not be negative");
+		Assert.notNull(projectsTtl, "'projectsTtl' must not be null");
+		Assert.notNull(projectTtl, "'projectTtl' must not be null");
+		Assert.notNull(projectDocumentationsTtl, "'projectDocumentationsTtl' must not be null");
+		Assert.notNull(projectSupportsTtl, "'projectSupportsTtl' must not be null");
+		Assert.notNull(maxStaleness, "'maxStaleness' must not be null");
+		Assert.isTrue(!maxStaleness.isNegative(), "'maxStaleness' must not be negative");
+		this.maximumSize = maximumSize;
+		this.projectsTtl = projectsTtl;
+		this.projectTtl = projectTtl;
+		this.projectDocumentationsTtl = projectDocumentationsTtl;
+		this.projectSupportsTtl = projectSupportsTtl;
+		this.maxStaleness = maxStaleness;
+	}
+
+	public long getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	public Duration getProjectsTtl() {
+		return this.projectsTtl;
+	}
+
+	public Duration getProjectTtl() {
+		return this.projectTtl;
+	}
+
+	public Duration getProjectDocumentationsTtl() {
+		return this.projectDocumentationsTtl;
+	}
+
+	public Duration getProjectSupportsTtl() {
+		return this.projectSupportsTtl;
+	}
+
+	/**
+	 * Return how long past its time to live a cached entry may be served while it is
+	 * refreshed in the background. A zero duration disables stale serving.
+	 * @return the maximum staleness
+	 */
+	public Duration getMaxStaleness() {
+		return this.maxStaleness;
+	}
+
+	boolean isServeStale() {
+		return !this.maxStaleness.isZero();
+	}
+
+}
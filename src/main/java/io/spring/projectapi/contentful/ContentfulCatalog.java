@@ -0,0 +1,311 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * {@link ContentfulReader} that serves all reads from an in-memory {@link ProjectCatalog}
+ * loaded with a single paginated query. The catalog is reloaded in the background once
+ * it is older than the refresh interval and atomically swapped when the reload
+ * completes. If the catalog cannot be reloaded it continues to be served until it
+ * exceeds the maximum staleness. When a {@link ContentfulSync} is provided reloads only
+ * transfer the entries that have changed since the previous reload. When a
+ * {@link ProjectCatalogFile} is provided each reloaded or evicted catalog is written to it
+ * so that it can be {@link #restore() restored} on startup before Contentful has been
+ * queried.
+ *
+ * @author Phillip Webb
+ */
+class ContentfulCatalog implements ContentfulReader {
+
+	private static final Logger logger = LoggerFactory.getLogger(ContentfulCatalog.class);
+
+	private static final Executor BOUNDED_ELASTIC = (task) -> Schedulers.boundedElastic().schedule(task);
+
+	private final ContentfulQueries queries;
+
+	private final UnaryOperator<ProjectCatalog> loader;
+
+	private final ProjectCatalogFile file;
+
+	private final long refreshIntervalNanos;
+
+	private final long expiryNanos;
+
+	private final Ticker ticker;
+
+	private final Executor refreshExecutor;
+
+	private final Scheduler loadScheduler;
+
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+	private final DataVersion version = new DataVersion();
+
+	private final AtomicBoolean refreshing = new AtomicBoolean();
+
+	private final Lock refreshLock = new ReentrantLock();
+
+	ContentfulCatalog(ContentfulQueries queries, ContentfulCatalogSettings settings) {
+		this(queries, null, null, settings, null);
+	}
+
+	ContentfulCatalog(ContentfulQueries queries, ContentfulSync sync, ProjectCatalogFile file,
+			ContentfulCatalogSettings settings, Executor executor) {
+		this(queries, sync, file, settings, Ticker.systemTicker(), (executor != null) ? executor : BOUNDED_ELASTIC);
+	}
+
+	ContentfulCatalog(ContentfulQueries queries, ContentfulCatalogSettings settings, Ticker ticker,
+			Executor refreshExecutor) {
+		this(queries, null, null, settings, ticker, refreshExecutor);
+	}
+
+	ContentfulCatalog(ContentfulQueries queries, ContentfulSync sync, ProjectCatalogFile file,
+			ContentfulCatalogSettings settings, Ticker ticker, Executor refreshExecutor) {
+		this.queries = queries;
+		this.loader = (sync != null) ? sync::apply : (current) -> queries.getCatalog();
+		this.file = file;
+		this.refreshIntervalNanos = settings.getRefreshInterval().toNanos();
+		this.expiryNanos = settings.getRefreshInterval().plus(settings.getMaxStaleness()).toNanos();
+		this.ticker = ticker;
+		this.refreshExecutor = refreshExecutor;
+		this.loadScheduler = Schedulers.fromExecutor(refreshExecutor);
+	}
+
+	@Override
+	public Mono<List<Project>> getProjects() {
+		return catalog().map(ProjectCatalog::getProjects);
+	}
+
+	@Override
+	public Mono<Project> getProject(String projectSlug) {
+		return catalog().map((catalog) -> catalog.getProject(projectSlug));
+	}
+
+	@Override
+	public Mono<List<ProjectDocumentation>> getProjectDocumentations(String projectSlug) {
+		return catalog().map((catalog) -> catalog.getProjectDocumentations(projectSlug));
+	}
+
+	@Override
+	public Mono<ProjectDocumentationIndex> getProjectDocumentationIndex(String projectSlug) {
+		return catalog().map((catalog) -> catalog.getProjectDocumentationIndex(projectSlug));
+	}
+
+	@Override
+	public Mono<Map<String, ProjectDocumentationIndex>> getProjectDocumentationIndexes() {
+		return catalog().map(ProjectCatalog::getProjectDocumentationIndexes);
+	}
+
+	@Override
+	public Mono<Map<String, List<ProjectSupport>>> getAllProjectSupports() {
+		return catalog().map(ProjectCatalog::getAllProjectSupports);
+	}
+
+	@Override
+	public Mono<List<ProjectSupport>> getProjectSupports(String projectSlug) {
+		return catalog().map((catalog) -> catalog.getProjectSupports(projectSlug));
+	}
+
+	@Override
+	public String getVersion() {
+		return this.version.toString();
+	}
+
+	private Mono<ProjectCatalog> catalog() {
+		return Mono.defer(() -> {
+			Snapshot snapshot = this.snapshot.get();
+			if (snapshot != null && !snapshot.isOlderThan(this.ticker.read(), this.expiryNanos)) {
+				return Mono.fromSupplier(this::getCatalog);
+			}
+			// Loading is blocking so must not happen on the caller's thread
+			return Mono.fromSupplier(this::getCatalog).subscribeOn(this.loadScheduler);
+		});
+	}
+
+	@Override
+	public void evictProject(String projectSlug) {
+		if (this.snapshot.get() == null) {
+			return;
+		}
+		// Fetch without holding the lock so that a slow Contentful cannot hold up reloads
+		UnaryOperator<ProjectCatalog> update;
+		try {
+			ProjectCatalog.Entry entry = this.queries.getCatalogEntry(projectSlug);
+			update = (catalog) -> catalog.withEntry(entry);
+		}
+		catch (NoSuchContentfulProjectException ex) {
+			update = (catalog) -> catalog.withoutEntry(projectSlug);
+		}
+		catch (RuntimeException ex) {
+			logger.warn("Unable to refresh project '{}', catalog will be refreshed on next read", projectSlug, ex);
+			this.refreshLock.lock();
+			try {
+				Snapshot snapshot = this.snapshot.get();
+				this.snapshot.set(new Snapshot(snapshot.catalog(), dueForRefresh()));
+			}
+			finally {
+				this.refreshLock.unlock();
+			}
+			return;
+		}
+		this.refreshLock.lock();
+		try {
+			Snapshot snapshot = this.snapshot.get();
+			ProjectCatalog catalog = update.apply(snapshot.catalog());
+			this.snapshot.set(new Snapshot(catalog, snapshot.timestamp()));
+			this.version.increment();
+			write(catalog);
+		}
+		finally {
+			this.refreshLock.unlock();
+		}
+	}
+
+	@Override
+	public void evictEntry(String entryId, String projectSlug) {
+		Snapshot snapshot = this.snapshot.get();
+		if (snapshot == null) {
+			return;
+		}
+		String previousSlug = snapshot.catalog().findSlug(entryId);
+		if (previousSlug != null && !previousSlug.equals(projectSlug)) {
+			evictProject(previousSlug);
+		}
+		if (projectSlug != null) {
+			evictProject(projectSlug);
+		}
+	}
+
+	@Override
+	public String findEntryId(String projectSlug) {
+		Snapshot snapshot = this.snapshot.get();
+		return (snapshot != null) ? snapshot.catalog().findEntryId(projectSlug) : null;
+	}
+
+	/**
+	 * Restore the catalog from the {@link ProjectCatalogFile}, if one is available, and
+	 * reload it from Contentful in the background.
+	 */
+	void restore() {
+		ProjectCatalog catalog = (this.file != null) ? this.file.read() : null;
+		if (catalog != null && this.snapshot.compareAndSet(null, new Snapshot(catalog, dueForRefresh()))) {
+			this.version.increment();
+			logger.info("Restored {} projects from '{}'", catalog.getProjects().size(), this.file);
+			refreshInBackground();
+		}
+	}
+
+	/**
+	 * Return the current catalog, loading it if necessary.
+	 * @return the current catalog
+	 */
+	ProjectCatalog getCatalog() {
+		Snapshot snapshot = this.snapshot.get();
+		long now = this.ticker.read();
+		if (snapshot == null || snapshot.isOlderThan(now, this.expiryNanos)) {
+			return refresh(now).catalog();
+		}
+		if (snapshot.isOlderThan(now, this.refreshIntervalNanos)) {
+			refreshInBackground();
+		}
+		return snapshot.catalog();
+	}
+
+	private Snapshot refresh(long now) {
+		// A lock rather than synchronized so that virtual threads waiting on a slow load
+		// do not pin their carrier threads
+		this.refreshLock.lock();
+		try {
+			Snapshot snapshot = this.snapshot.get();
+			if (snapshot != null && !snapshot.isOlderThan(now, this.expiryNanos)) {
+				return snapshot;
+			}
+			return load();
+		}
+		finally {
+			this.refreshLock.unlock();
+		}
+	}
+
+	private void refreshInBackground() {
+		if (this.refreshing.compareAndSet(false, true)) {
+			this.refreshExecutor.execute(() -> {
+				this.refreshLock.lock();
+				try {
+					load();
+				}
+				catch (RuntimeException ex) {
+					logger.warn("Unable to refresh Contentful project catalog", ex);
+				}
+				finally {
+					this.refreshLock.unlock();
+					this.refreshing.set(false);
+				}
+			});
+		}
+	}
+
+	private Snapshot load() {
+		Snapshot current = this.snapshot.get();
+		ProjectCatalog catalog = this.loader.apply((current != null) ? current.catalog() : ProjectCatalog.EMPTY);
+		Snapshot snapshot = new Snapshot(catalog, this.ticker.read());
+		this.snapshot.set(snapshot);
+		if (current == null || catalog != current.catalog()) {
+			this.version.increment();
+			write(catalog);
+		}
+		return snapshot;
+	}
+
+	private void write(ProjectCatalog catalog) {
+		if (this.file != null) {
+			this.file.write(catalog);
+		}
+	}
+
+	private long dueForRefresh() {
+		return this.ticker.read() - this.refreshIntervalNanos - 1;
+	}
+
+	/**
+	 * A loaded catalog along with the {@link Ticker} time that it was loaded.
+	 */
+	private record Snapshot(ProjectCatalog catalog, long timestamp) {
+
+		boolean isOlderThan(long now, long nanos) {
+			return now - this.timestamp > nanos;
+		}
+
+	}
+
+}
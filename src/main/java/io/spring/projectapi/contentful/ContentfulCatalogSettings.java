@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Settings used to configure the in-memory Contentful project catalog.
+ *
+ * @author Phillip Webb
+ */
+public final class ContentfulCatalogSettings {
+
+	private final boolean enabled;
+
+	private final Duration refreshInterval;
+
+	private final Duration maxStaleness;
+
+	private final boolean sync;
+
+	private final Path file;
+
+	public ContentfulCatalogSettings(boolean enabled, Duration refreshInterval, Duration maxStaleness) {
+		this(enabled, refreshInterval, maxStaleness, false, null);
+	}
+
+	public ContentfulCatalogSettings(boolean enabled, Duration refreshInterval, Duration maxStaleness, boolean sync,
+			Path file) {
+		Assert.notNull(refreshInterval, "'refreshInterval' must not be null");
+		Assert.isTrue(!refreshInterval.isNegative(), "'refreshInterval' must not be negative");
+		Assert.notNull(maxStaleness, "'maxStaleness' must not be null");
+		Assert.isTrue(!maxStaleness.isNegative(), "'maxStaleness' must not be negative");
+		this.enabled = enabled;
+		this.refreshInterval = refreshInterval;
+		this.maxStaleness = maxStaleness;
+		this.sync = sync;
+		this.file = file;
+	}
+
+	/**
+	 * Return if reads should be served from the catalog rather than from individually
+	 * cached queries.
+	 * @return if the catalog is enabled
+	 */
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	/**
+	 * Return the age after which the catalog is reloaded in the background.
+	 * @return the refresh interval
+	 */
+	public Duration getRefreshInterval() {
+		return this.refreshInterval;
+	}
+
+	/**
+	 * Return how long past its refresh interval the catalog may still be served if it
+	 * cannot be reloaded.
+	 * @return the maximum staleness
+	 */
+	public Duration getMaxStaleness() {
+		return this.maxStaleness;
+	}
+
+	/**
+	 * Return if the catalog should be reloaded incrementally using the Contentful Sync
+	 * API.
+	 * @return if sync is enabled
+	 */
+	public boolean isSync() {
+		return this.sync;
+	}
+
+	/**
+	 * Return the file used to persist the last loaded catalog so that it can be served
+	 * on startup.
+	 * @return the catalog file or {@code null}
+	 */
+	public Path getFile() {
+		return this.file;
+	}
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import com.contentful.java.cma.model.CMAHttpException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+import org.springframework.graphql.client.ClientGraphQlResponse;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Records Micrometer timers for calls made to Contentful. Timers are tagged with the
+ * GraphQL document or management operation, the outcome and the HTTP status.
+ *
+ * @author Phillip Webb
+ */
+class ContentfulMetrics {
+
+	static final String GRAPHQL_REQUESTS = "contentful.graphql.requests";
+
+	static final String MANAGEMENT_REQUESTS = "contentful.management.requests";
+
+	private static final String NO_STATUS = "NONE";
+
+	private final MeterRegistry registry;
+
+	ContentfulMetrics() {
+		this(new SimpleMeterRegistry());
+	}
+
+	ContentfulMetrics(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	/**
+	 * Time a GraphQL request, recording when the returned {@link Mono} completes.
+	 * @param documentName the name of the GraphQL document
+	 * @param request the request to time
+	 * @return a timed request
+	 */
+	Mono<ClientGraphQlResponse> timeQuery(String documentName, Mono<ClientGraphQlResponse> request) {
+		return Mono.defer(() -> {
+			Timer.Sample sample = Timer.start(this.registry);
+			return request.doOnSuccess((response) -> {
+				Outcome outcome = (response != null && response.isValid()) ? Outcome.SUCCESS : Outcome.INVALID;
+				stop(sample, GRAPHQL_REQUESTS, "document", documentName, outcome, "200");
+			}).doOnError((ex) -> stop(sample, GRAPHQL_REQUESTS, "document", documentName, Outcome.of(ex), status(ex)));
+		});
+	}
+
+	/**
+	 * Time a blocking call to the Contentful management API.
+	 * @param <T> the result type
+	 * @param operation the name of the operation
+	 * @param call the call to time
+	 * @return the result of the call
+	 */
+	<T> T timeOperation(String operation, Supplier<T> call) {
+		Timer.Sample sample = Timer.start(this.registry);
+		try {
+			T result = call.get();
+			stop(sample, MANAGEMENT_REQUESTS, "operation", operation, Outcome.SUCCESS, "200");
+			return result;
+		}
+		catch (RuntimeException ex) {
+			stop(sample, MANAGEMENT_REQUESTS, "operation", operation, Outcome.of(ex), status(ex));
+			throw ex;
+		}
+	}
+
+	private void stop(Timer.Sample sample, String name, String key, String value, Outcome outcome, String status) {
+		sample.stop(Timer.builder(name).tag(key, value).tag("outcome", outcome.name()).tag("status", status)
+				.publishPercentileHistogram().register(this.registry));
+	}
+
+	private String status(Throwable ex) {
+		if (ex instanceof WebClientResponseException responseException) {
+			return String.valueOf(responseException.getRawStatusCode());
+		}
+		if (ex instanceof CMAHttpException httpException) {
+			return String.valueOf(httpException.responseCode());
+		}
+		return NO_STATUS;
+	}
+
+	/**
+	 * The outcome of a call.
+	 */
+	enum Outcome {
+
+		/**
+		 * The call completed with a valid response.
+		 */
+		SUCCESS,
+
+		/**
+		 * The call completed but the response was empty or invalid.
+		 */
+		INVALID,
+
+		/**
+		 * The call did not complete in time.
+		 */
+		TIMEOUT,
+
+		/**
+		 * The call failed.
+		 */
+		ERROR;
+
+		static Outcome of(Throwable ex) {
+			while (ex != null) {
+				if (ex instanceof TimeoutException || ex instanceof InterruptedIOException) {
+					return TIMEOUT;
+				}
+				ex = ex.getCause();
+			}
+			return ERROR;
+		}
+
+	}
+
+}
@@ -16,57 +16,207 @@
 
 package io.spring.projectapi.contentful;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import com.contentful.java.cma.CMAClient;
 import com.contentful.java.cma.model.CMAArray;
 import com.contentful.java.cma.model.CMAEntry;
+import com.contentful.java.cma.model.CMAHttpException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.http.HttpStatus;
 
 /**
- * Contentful operations performed via the {@link CMAClient REST API}.
+ * Contentful operations performed via the {@link CMAClient REST API}. Project entries are
+ * fetched directly by ID when the ID is already known from an earlier write or from the
+ * read side, and are only searched for by slug otherwise. Writes to the same project are
+ * serialized and retried when Contentful reports a version conflict.
  *
  * @author Madhura Bhave
  * @author Phillip Webb
  */
 class ContentfulOperations {
 
+	private static final Logger logger = LoggerFactory.getLogger(ContentfulOperations.class);
+
 	private static final String LOCALE = "en-US";
 
+	private static final int BULK_UPDATE_CONCURRENCY = 4;
+
+	private static final int MAXIMUM_ENTRIES_PER_QUERY = 1000;
+
+	private static final int MAXIMUM_UPDATE_ATTEMPTS = 3;
+
+	private static final int LOCK_STRIPES = 64;
+
 	private final CMAClient client;
 
 	private final ObjectMapper objectMapper;
 
-	ContentfulOperations(ObjectMapper objectMapper, String accessToken, String spaceId, String environmentId) {
-		this(objectMapper, buildClient(accessToken, spaceId, environmentId));
+	private final ContentfulMetrics metrics;
+
+	private final Function<String, String> entryIdResolver;
+
+	private final Map<String, String> entryIds = new ConcurrentHashMap<>();
+
+	private final Lock[] locks = new Lock[LOCK_STRIPES];
+
+	ContentfulOperations(ObjectMapper objectMapper, String accessToken, String spaceId, String environmentId,
+			String managementUrl, ContentfulMetrics metrics, Function<String, String> entryIdResolver) {
+		this(objectMapper, buildClient(accessToken, spaceId, environmentId, managementUrl), metrics,
+				entryIdResolver);
 	}
 
 	ContentfulOperations(ObjectMapper objectMapper, CMAClient client) {
+		this(objectMapper, client, new ContentfulMetrics(), (projectSlug) -> null);
+	}
+
+	ContentfulOperations(ObjectMapper objectMapper, CMAClient client, ContentfulMetrics metrics,
+			Function<String, String> entryIdResolver) {
 		this.objectMapper = objectMapper;
 		this.client = client;
+		this.metrics = metrics;
+		this.entryIdResolver = entryIdResolver;
+		for (int i = 0; i < this.locks.length; i++) {
+			this.locks[i] = new ReentrantLock();
+		}
 	}
 
-	private static CMAClient buildClient(String accessToken, String spaceId, String environmentId) {
+	private static CMAClient buildClient(String accessToken, String spaceId, String environmentId,
+			String managementUrl) {
 		CMAClient.Builder builder = new CMAClient.Builder();
 		builder.setAccessToken(accessToken);
 		builder.setSpaceId(spaceId);
 		builder.setEnvironmentId(environmentId);
+		// The underlying Retrofit client requires the endpoint to end with a slash
+		builder.setCoreEndpoint((managementUrl.endsWith("/")) ? managementUrl : managementUrl + "/");
 		return builder.build();
 	}
 
-	void addProjectDocumentation(String projectSlug, ProjectDocumentation documentation) {
-		CMAEntry projectEntry = getProjectEntry(projectSlug);
-		List<Map<String, Object>> releases = projectEntry.getField("documentation", LOCALE);
-		releases.add(convertToMap(documentation));
-		this.client.entries().update(projectEntry);
+	void addProjectDocumentations(String projectSlug, List<ProjectDocumentation> documentations) {
+		updateDocumentation(projectSlug, null, addAll(projectSlug, documentations));
+	}
+
+	List<DocumentationUpdateResult> addProjectDocumentations(
+			Map<String, List<ProjectDocumentation>> documentations) {
+		Map<String, List<CMAEntry>> entries = getProjectEntries(documentations.keySet());
+		return Flux.fromIterable(documentations.entrySet()).flatMapSequential((entry) -> {
+			String projectSlug = entry.getKey();
+			List<CMAEntry> projectEntries = entries.getOrDefault(projectSlug, Collections.emptyList());
+			return Mono.fromCallable(() -> addProjectDocumentations(projectSlug, projectEntries, entry.getValue()))
+					.subscribeOn(Schedulers.boundedElastic());
+		}, BULK_UPDATE_CONCURRENCY).collectList().block();
+	}
+
+	private DocumentationUpdateResult addProjectDocumentations(String projectSlug, List<CMAEntry> projectEntries,
+			List<ProjectDocumentation> documentations) {
+		try {
+			NoSuchContentfulProjectException.throwIfEmpty(projectEntries, projectSlug);
+			NoUniqueContentfulProjectException.throwIfNoUniqueResult(projectEntries, projectSlug);
+			CMAEntry projectEntry = projectEntries.get(0);
+			this.entryIds.put(projectSlug, projectEntry.getId());
+			updateDocumentation(projectSlug, projectEntry, addAll(projectSlug, documentations));
+			return DocumentationUpdateResult.updated(projectSlug);
+		}
+		catch (NoSuchContentfulProjectException ex) {
+			return DocumentationUpdateResult.notFound(projectSlug);
+		}
+		catch (DocumentationAlreadyPresentException ex) {
+			return DocumentationUpdateResult.alreadyPresent(ex);
+		}
+		catch (RuntimeException ex) {
+			logger.warn("Unable to add documentation to project '{}'", projectSlug, ex);
+			return DocumentationUpdateResult.failed(projectSlug);
+		}
+	}
+
+	private Predicate<List<Map<String, Object>>> addAll(String projectSlug,
+			List<ProjectDocumentation> documentations) {
+		return (releases) -> {
+			List<String> existingVersions = documentations.stream().map(ProjectDocumentation::getVersion)
+					.filter((version) -> hasVersion(releases, version)).toList();
+			DocumentationAlreadyPresentException.throwIfNotEmpty(existingVersions, projectSlug);
+			documentations.forEach((documentation) -> releases.add(convertToMap(documentation)));
+			return true;
+		};
 	}
 
 	void deleteDocumentation(String projectSlug, String version) {
-		CMAEntry projectEntry = getProjectEntry(projectSlug);
-		List<Map<String, Object>> documentations = projectEntry.getField("documentation", LOCALE);
-		documentations.removeIf((documentation) -> documentation.get("version").equals(version));
-		this.client.entries().update(projectEntry);
+		updateDocumentation(projectSlug, null,
+				(releases) -> releases.removeIf((release) -> version.equals(release.get("version"))));
+	}
+
+	private boolean hasVersion(List<Map<String, Object>> releases, String version) {
+		return releases.stream().anyMatch((release) -> version.equals(release.get("version")));
+	}
+
+	/**
+	 * Apply a change to the documentation of a project entry and write it back. Changes
+	 * to the same project are serialized and, if Contentful rejects the write because
+	 * the entry was changed elsewhere, the entry is read again and the change reapplied.
+	 * @param projectSlug the project slug
+	 * @param projectEntry an already fetched entry to use for the first attempt or
+	 * {@code null}
+	 * @param change the change to apply, returning {@code false} if nothing should be
+	 * written
+	 * @return {@code true} if the entry was written
+	 */
+	private boolean updateDocumentation(String projectSlug, CMAEntry projectEntry,
+			Predicate<List<Map<String, Object>>> change) {
+		Lock lock = getLock(projectSlug);
+		lock.lock();
+		try {
+			CMAEntry entry = (projectEntry != null) ? projectEntry : getProjectEntry(projectSlug);
+			for (int attempt = 1;; attempt++) {
+				if (!change.test(entry.getField("documentation", LOCALE))) {
+					return false;
+				}
+				try {
+					update(entry);
+					return true;
+				}
+				catch (CMAHttpException ex) {
+					if (ex.responseCode() != HttpStatus.CONFLICT.value() || attempt >= MAXIMUM_UPDATE_ATTEMPTS) {
+						throw ex;
+					}
+					logger.debug("Version conflict updating project '{}', retrying", projectSlug);
+					entry = getProjectEntry(projectSlug);
+				}
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Return the lock that serializes writes to the given project. Locks are striped so
+	 * that the number of locks stays fixed no matter how many slugs are requested. Writes
+	 * to projects that share a stripe are serialized too, which is safe but slower.
+	 * @param projectSlug the project slug
+	 * @return the lock for the project
+	 */
+	private Lock getLock(String projectSlug) {
+		return this.locks[Math.floorMod(projectSlug.hashCode(), this.locks.length)];
+	}
+
+	private void update(CMAEntry projectEntry) {
+		this.metrics.timeOperation("update-entry", () -> this.client.entries().update(projectEntry));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -74,9 +224,55 @@ class ContentfulOperations {
 		return this.objectMapper.convertValue(documentation, Map.class);
 	}
 
+	private Map<String, List<CMAEntry>> getProjectEntries(Collection<String> projectSlugs) {
+		List<String> slugs = List.copyOf(projectSlugs);
+		Map<String, List<CMAEntry>> entries = new HashMap<>();
+		for (int i = 0; i < slugs.size(); i += MAXIMUM_ENTRIES_PER_QUERY) {
+			String page = String.join(",", slugs.subList(i, Math.min(slugs.size(), i + MAXIMUM_ENTRIES_PER_QUERY)));
+			Map<String, String> query = Map.of("content_type", "project", "fields.slug[in]", page, "limit",
+					String.valueOf(MAXIMUM_ENTRIES_PER_QUERY));
+			CMAArray<CMAEntry> result = this.metrics.timeOperation("fetch-entries",
+					() -> this.client.entries().fetchAll(query));
+			for (CMAEntry entry : result.getItems()) {
+				String slug = entry.getField("slug", LOCALE);
+				entries.computeIfAbsent(slug, (key) -> new ArrayList<>()).add(entry);
+			}
+		}
+		return entries;
+	}
+
 	private CMAEntry getProjectEntry(String projectSlug) {
+		String entryId = this.entryIds.get(projectSlug);
+		entryId = (entryId != null) ? entryId : this.entryIdResolver.apply(projectSlug);
+		CMAEntry entry = (entryId != null) ? fetchProjectEntry(entryId, projectSlug) : null;
+		if (entry == null) {
+			entry = findProjectEntry(projectSlug);
+		}
+		this.entryIds.put(projectSlug, entry.getId());
+		return entry;
+	}
+
+	private CMAEntry fetchProjectEntry(String entryId, String projectSlug) {
+		try {
+			CMAEntry entry = this.metrics.timeOperation("fetch-entry", () -> this.client.entries().fetchOne(entryId));
+			if (projectSlug.equals(entry.getField("slug", LOCALE))) {
+				return entry;
+			}
+		}
+		catch (CMAHttpException ex) {
+			if (ex.responseCode() != HttpStatus.NOT_FOUND.value()) {
+				throw ex;
+			}
+		}
+		// The entry was deleted or now backs a different project
+		this.entryIds.remove(projectSlug, entryId);
+		return null;
+	}
+
+	private CMAEntry findProjectEntry(String projectSlug) {
 		Map<String, String> query = Map.of("content_type", "project", "fields.slug", projectSlug);
-		CMAArray<CMAEntry> entries = this.client.entries().fetchAll(query);
+		CMAArray<CMAEntry> entries = this.metrics.timeOperation("fetch-entries",
+				() -> this.client.entries().fetchAll(query));
 		List<CMAEntry> items = entries.getItems();
 		NoSuchContentfulProjectException.throwIfEmpty(items, projectSlug);
 		NoUniqueContentfulProjectException.throwIfNoUniqueResult(items, projectSlug);
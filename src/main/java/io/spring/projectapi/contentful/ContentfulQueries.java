@@ -17,19 +17,28 @@
 package io.spring.projectapi.contentful;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 
+import reactor.core.publisher.Mono;
+
 import org.springframework.graphql.client.ClientGraphQlResponse;
 import org.springframework.graphql.client.ClientResponseField;
 import org.springframework.graphql.client.GraphQlClient;
-import org.springframework.graphql.client.GraphQlClient.RequestSpec;
 import org.springframework.graphql.client.GraphQlClientException;
 import org.springframework.graphql.client.HttpGraphQlClient;
 import org.springframework.web.reactive.function.client.WebClient;
 
 /**
- * Contentful queries performed via the GraphQL API.
+ * Contentful queries performed via the GraphQL API. Concurrent calls for the same query
+ * share a single in-flight request. Project queries are reactive so that callers are
+ * not blocked waiting for Contentful, catalog queries are blocking since they are only
+ * used to load data in the background.
  *
  * @author Madhura Bhave
  * @author Phillip Webb
@@ -38,43 +47,81 @@ class ContentfulQueries {
 
 	private static final Duration TIMEOUT = Duration.ofSeconds(1);
 
+	private static final int CATALOG_PAGE_SIZE = 50;
+
 	private final GraphQlClient client;
 
+	private final ContentfulMetrics metrics;
+
+	private final Map<Query, Mono<ClientGraphQlResponse>> inFlight = new ConcurrentHashMap<>();
+
 	ContentfulQueries(WebClient webClient, String accessToken) {
+		this(webClient, accessToken, new ContentfulMetrics());
+	}
+
+	ContentfulQueries(WebClient webClient, String accessToken, ContentfulMetrics metrics) {
 		this.client = HttpGraphQlClient.builder(webClient).headers((headers) -> headers.setBearerAuth(accessToken))
 				.build();
+		this.metrics = metrics;
+	}
+
+	Mono<List<Project>> getProjects() {
+		return executeAsync(new Query("projects", Collections.emptyMap()))
+				.map((response) -> fieldToEntityList(response, "projectCollection.items", Project.class));
 	}
 
-	List<Project> getProjects() {
-		ClientGraphQlResponse response = execute("projects");
-		return fieldToEntityList(response, "projectCollection.items", Project.class);
+	Mono<Project> getProject(String projectSlug) {
+		return executeForSingleProjectAsync("project", projectSlug)
+				.map((response) -> fieldToEntity(response, "projectCollection.items[0]", Project.class));
 	}
 
-	Project getProject(String projectSlug) {
-		ClientGraphQlResponse response = executeForSingleProject("project", projectSlug);
-		return fieldToEntity(response, "projectCollection.items[0]", Project.class);
+	Mono<List<ProjectDocumentation>> getProjectDocumentations(String projectSlug) {
+		return executeForSingleProjectAsync("project-documentations", projectSlug)
+				.map((response) -> fieldToEntityList(response, "projectCollection.items[0].documentation",
+						ProjectDocumentation.class));
 	}
 
-	List<ProjectDocumentation> getProjectDocumentations(String projectSlug) {
-		ClientGraphQlResponse response = executeForSingleProject("project-documentations", projectSlug);
-		return fieldToEntityList(response, "projectCollection.items[0].documentation", ProjectDocumentation.class);
+	Mono<List<ProjectSupport>> getProjectSupports(String projectSlug) {
+		return executeForSingleProjectAsync("project-supports", projectSlug)
+				.map((response) -> fieldToEntityList(response, "projectCollection.items[0].support",
+						ProjectSupport.class));
 	}
 
-	List<ProjectSupport> getProjectSupports(String projectSlug) {
-		ClientGraphQlResponse response = executeForSingleProject("project-supports", projectSlug);
-		return fieldToEntityList(response, "projectCollection.items[0].support", ProjectSupport.class);
+	ProjectCatalog getCatalog() {
+		List<ProjectCatalog.Entry> entries = new ArrayList<>();
+		int total;
+		do {
+			Map<String, Object> variables = Map.of("skip", entries.size(), "limit", CATALOG_PAGE_SIZE);
+			ClientGraphQlResponse response = execute(new Query("catalog", variables));
+			List<ProjectCatalog.Entry> page = fieldToEntityList(response, "projectCollection.items",
+					ProjectCatalog.Entry.class);
+			if (page.isEmpty()) {
+				break;
+			}
+			entries.addAll(page);
+			total = fieldToEntity(response, "projectCollection.total", Integer.class);
+		}
+		while (entries.size() < total);
+		return ProjectCatalog.of(entries);
 	}
 
-	private ClientGraphQlResponse execute(String documentName) {
-		return execute(this.client.documentName(documentName));
+	ProjectCatalog.Entry getCatalogEntry(String projectSlug) {
+		ClientGraphQlResponse response = executeForSingleProject("catalog-project", projectSlug);
+		return fieldToEntity(response, "projectCollection.items[0]", ProjectCatalog.Entry.class);
 	}
 
 	private ClientGraphQlResponse executeForSingleProject(String documentName, String projectSlug) {
-		ClientGraphQlResponse response = execute(this.client.documentName(documentName).variable("slug", projectSlug));
+		ClientGraphQlResponse response = execute(new Query(documentName, Map.of("slug", projectSlug)));
 		NoSuchContentfulProjectException.throwIfHasNoValue(response.field("projectCollection.items[0]"), projectSlug);
 		return response;
 	}
 
+	private Mono<ClientGraphQlResponse> executeForSingleProjectAsync(String documentName, String projectSlug) {
+		Query query = new Query(documentName, Map.of("slug", projectSlug));
+		return executeAsync(query).doOnNext((response) -> NoSuchContentfulProjectException
+				.throwIfHasNoValue(response.field("projectCollection.items[0]"), projectSlug));
+	}
+
 	private <T> List<T> fieldToEntityList(ClientGraphQlResponse response, String path, Class<T> type) {
 		return field(response, path, (field) -> field.toEntityList(type));
 	}
@@ -92,10 +139,32 @@ class ContentfulQueries {
 		}
 	}
 
-	private ClientGraphQlResponse execute(RequestSpec request) {
-		ClientGraphQlResponse response = request.execute().block(TIMEOUT);
+	private ClientGraphQlResponse execute(Query query) {
+		ClientGraphQlResponse response = this.inFlight.computeIfAbsent(query, this::request).block(TIMEOUT);
 		InvalidContentfulQueryResponseException.throwIfInvalid(response);
 		return response;
 	}
 
+	private Mono<ClientGraphQlResponse> executeAsync(Query query) {
+		Mono<ClientGraphQlResponse> response = Mono.defer(() -> this.inFlight.computeIfAbsent(query, this::request));
+		return response.doOnNext(InvalidContentfulQueryResponseException::throwIfInvalid)
+				.switchIfEmpty(Mono.error(() -> new InvalidContentfulQueryResponseException("Empty response")))
+				.onErrorMap(TimeoutException.class, InvalidContentfulQueryResponseException::new);
+	}
+
+	private Mono<ClientGraphQlResponse> request(Query query) {
+		Mono<ClientGraphQlResponse> response = this.client.documentName(query.documentName())
+				.variables(query.variables()).execute();
+		// The timeout guarantees that the shared request always completes and is removed
+		response = this.metrics.timeQuery(query.documentName(), response.timeout(TIMEOUT));
+		return response.doFinally((signal) -> this.inFlight.remove(query)).cache();
+	}
+
+	/**
+	 * A GraphQL query identified by its document name and variables.
+	 */
+	private record Query(String documentName, Map<String, Object> variables) {
+
+	}
+
 }
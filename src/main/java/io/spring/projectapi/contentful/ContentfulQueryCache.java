@@ -0,0 +1,223 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.Ticker;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * {@link ContentfulReader} backed by a read-through cache in front of
+ * {@link ContentfulQueries}. Each query is backed by its
+ * own bounded cache so that time to live can be tuned to how often the underlying data
+ * changes. When {@link ContentfulCacheSettings#getMaxStaleness() stale serving} is
+ * enabled, expired entries are returned immediately and refreshed in the background so
+ * that callers are not exposed to slow or failing Contentful requests. Caches hold the
+ * pending result of a load so that callers never block waiting for Contentful. The
+ * {@link #getVersion() version} only changes when a project is evicted or when a reload
+ * returns different data, so loading or expiring one entry leaves the version of
+ * unrelated data untouched.
+ *
+ * @author Phillip Webb
+ */
+class ContentfulQueryCache implements ContentfulReader {
+
+	private static final String ALL_PROJECTS = "*";
+
+	private final AsyncLoadingCache<String, List<Project>> projects;
+
+	private final AsyncLoadingCache<String, Project> project;
+
+	private final AsyncLoadingCache<String, ProjectDocumentationIndex> projectDocumentations;
+
+	private final AsyncLoadingCache<String, ProjectCatalog> catalog;
+
+	private final AsyncLoadingCache<String, List<ProjectSupport>> projectSupports;
+
+	private final DataVersion version = new DataVersion();
+
+	ContentfulQueryCache(ContentfulQueries queries, ContentfulCacheSettings settings) {
+		this(queries, settings, null);
+	}
+
+	ContentfulQueryCache(ContentfulQueries queries, ContentfulCacheSettings settings, Executor executor) {
+		this(queries, settings, Ticker.systemTicker(), (executor != null) ? executor : ForkJoinPool.commonPool());
+	}
+
+	ContentfulQueryCache(ContentfulQueries queries, ContentfulCacheSettings settings, Ticker ticker,
+			Executor refreshExecutor) {
+		long maximumSize = settings.getMaximumSize();
+		this.projects = build(settings, 1, settings.getProjectsTtl(), ticker, refreshExecutor,
+				(key) -> queries.getProjects().map(List::copyOf));
+		this.project = build(settings, maximumSize, settings.getProjectTtl(), ticker, refreshExecutor,
+				queries::getProject);
+		this.projectDocumentations = build(settings, maximumSize, settings.getProjectDocumentationsTtl(), ticker,
+				refreshExecutor,
+				(projectSlug) -> queries.getProjectDocumentations(projectSlug).map(ProjectDocumentationIndex::of));
+		this.catalog = build(settings, 1, settings.getProjectDocumentationsTtl(), ticker, refreshExecutor,
+				(key) -> Mono.fromCallable(queries::getCatalog).subscribeOn(Schedulers.boundedElastic()));
+		this.projectSupports = build(settings, maximumSize, settings.getProjectSupportsTtl(), ticker,
+				refreshExecutor, (projectSlug) -> queries.getProjectSupports(projectSlug).map(List::copyOf));
+	}
+
+	private <V> AsyncLoadingCache<String, V> build(ContentfulCacheSettings settings, long maximumSize, Duration ttl,
+			Ticker ticker, Executor refreshExecutor, Function<String, Mono<V>> query) {
+		VersionedLoader<V> loader = new VersionedLoader<>(query);
+		Caffeine<String, V> builder = Caffeine.newBuilder().maximumSize(maximumSize).ticker(ticker)
+				.executor(refreshExecutor).removalListener(loader);
+		if (!settings.isServeStale()) {
+			return builder.expireAfterWrite(ttl).buildAsync(loader);
+		}
+		// Once the TTL has passed the current value is returned and reloaded in the
+		// background. A failed reload keeps the stale value until it finally expires.
+		builder.refreshAfterWrite(ttl);
+		return builder.expireAfterWrite(ttl.plus(settings.getMaxStaleness())).buildAsync(loader);
+	}
+
+	@Override
+	public Mono<List<Project>> getProjects() {
+		return get(this.projects, ALL_PROJECTS);
+	}
+
+	@Override
+	public Mono<Project> getProject(String projectSlug) {
+		return get(this.project, projectSlug);
+	}
+
+	@Override
+	public Mono<List<ProjectDocumentation>> getProjectDocumentations(String projectSlug) {
+		return getProjectDocumentationIndex(projectSlug).map(ProjectDocumentationIndex::getDocumentations);
+	}
+
+	@Override
+	public Mono<ProjectDocumentationIndex> getProjectDocumentationIndex(String projectSlug) {
+		return get(this.projectDocumentations, projectSlug);
+	}
+
+	@Override
+	public Mono<Map<String, ProjectDocumentationIndex>> getProjectDocumentationIndexes() {
+		return get(this.catalog, ALL_PROJECTS).map(ProjectCatalog::getProjectDocumentationIndexes);
+	}
+
+	@Override
+	public Mono<Map<String, List<ProjectSupport>>> getAllProjectSupports() {
+		return get(this.catalog, ALL_PROJECTS).map(ProjectCatalog::getAllProjectSupports);
+	}
+
+	@Override
+	public Mono<List<ProjectSupport>> getProjectSupports(String projectSlug) {
+		return get(this.projectSupports, projectSlug);
+	}
+
+	@Override
+	public String getVersion() {
+		return this.version.toString();
+	}
+
+	private <V> Mono<V> get(AsyncLoadingCache<String, V> cache, String key) {
+		// Subscribe to a copy so that a cancelled caller doesn't cancel the shared load
+		return Mono.defer(() -> Mono.fromFuture(cache.get(key).copy()));
+	}
+
+	@Override
+	public void evictProject(String projectSlug) {
+		this.projects.synchronous().invalidateAll();
+		this.project.synchronous().invalidate(projectSlug);
+		this.projectDocumentations.synchronous().invalidate(projectSlug);
+		this.catalog.synchronous().invalidateAll();
+		this.projectSupports.synchronous().invalidate(projectSlug);
+		this.version.increment();
+	}
+
+	@Override
+	public void evictEntry(String entryId, String projectSlug) {
+		if (projectSlug != null) {
+			evictProject(projectSlug);
+			return;
+		}
+		// Cached queries are not tracked by entry ID so everything must go
+		this.projects.synchronous().invalidateAll();
+		this.project.synchronous().invalidateAll();
+		this.projectDocumentations.synchronous().invalidateAll();
+		this.catalog.synchronous().invalidateAll();
+		this.projectSupports.synchronous().invalidateAll();
+		this.version.increment();
+	}
+
+	/**
+	 * {@link AsyncCacheLoader} that changes the version when a load returns data that
+	 * differs from the previous load of the same key. Only keys of existing projects load
+	 * successfully so the previously loaded values are bounded by the number of projects.
+	 *
+	 * @param <V> the value type
+	 */
+	private final class VersionedLoader<V> implements AsyncCacheLoader<String, V>, RemovalListener<String, V> {
+
+		private final Function<String, Mono<V>> query;
+
+		private final Map<String, V> loaded = new ConcurrentHashMap<>();
+
+		VersionedLoader(Function<String, Mono<V>> query) {
+			this.query = query;
+		}
+
+		@Override
+		public CompletableFuture<V> asyncLoad(String key, Executor executor) {
+			// Callers wait for a missing value so the version can change before it is used
+			return this.query.apply(key).doOnSuccess((value) -> {
+				if (record(key, value)) {
+					ContentfulQueryCache.this.version.increment();
+				}
+			}).toFuture();
+		}
+
+		@Override
+		public CompletableFuture<V> asyncReload(String key, V oldValue, Executor executor) {
+			// A refreshed value only replaces the current one after it has loaded so
+			// the version is changed once it is visible by onRemoval
+			return this.query.apply(key).doOnSuccess((value) -> record(key, value)).toFuture();
+		}
+
+		@Override
+		public void onRemoval(String key, V value, RemovalCause cause) {
+			if (cause == RemovalCause.REPLACED && value != null && !value.equals(this.loaded.get(key))) {
+				ContentfulQueryCache.this.version.increment();
+			}
+		}
+
+		private boolean record(String key, V value) {
+			V previous = (value != null) ? this.loaded.put(key, value) : null;
+			return previous != null && !previous.equals(value);
+		}
+
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import java.util.List;
+import java.util.Map;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Strategy used by {@link ContentfulService} to read project data. Reads are reactive
+ * so that callers are never blocked while data is fetched from Contentful.
+ *
+ * @author Phillip Webb
+ * @see ContentfulQueryCache
+ * @see ContentfulCatalog
+ */
+interface ContentfulReader {
+
+	Mono<List<Project>> getProjects();
+
+	Mono<Project> getProject(String projectSlug);
+
+	Mono<List<ProjectDocumentation>> getProjectDocumentations(String projectSlug);
+
+	/**
+	 * Return an index over the documentation of the given project. The same index
+	 * instance is returned until the project data changes.
+	 * @param projectSlug the project slug
+	 * @return the documentation index
+	 */
+	Mono<ProjectDocumentationIndex> getProjectDocumentationIndex(String projectSlug);
+
+	/**
+	 * Return the documentation index of every project, keyed by project slug. Indexes
+	 * for all projects are obtained together rather than one project at a time.
+	 * @return the documentation indexes
+	 */
+	Mono<Map<String, ProjectDocumentationIndex>> getProjectDocumentationIndexes();
+
+	/**
+	 * Return the support of every project, keyed by project slug. Support for all
+	 * projects is obtained together rather than one project at a time.
+	 * @return the project supports
+	 */
+	Mono<Map<String, List<ProjectSupport>>> getAllProjectSupports();
+
+	Mono<List<ProjectSupport>> getProjectSupports(String projectSlug);
+
+	/**
+	 * Return an opaque version that changes whenever data returned by this reader may
+	 * have changed. The version should be obtained before reading the data that it
+	 * describes.
+	 * @return the current version
+	 */
+	String getVersion();
+
+	/**
+	 * Evict any locally held data for the given project so that subsequent reads reflect
+	 * the latest state from Contentful.
+	 * @param projectSlug the slug of the project to evict
+	 */
+	void evictProject(String projectSlug);
+
+	/**
+	 * Evict any locally held data for the project backed by the given Contentful entry.
+	 * @param entryId the ID of the Contentful entry
+	 * @param projectSlug the slug of the project or {@code null} if the entry no longer
+	 * has one (for example, because it was deleted)
+	 */
+	void evictEntry(String entryId, String projectSlug);
+
+	/**
+	 * Return the ID of the Contentful entry backing the given project if it is known
+	 * without making a remote call.
+	 * @param projectSlug the project slug
+	 * @return the entry ID or {@code null}
+	 */
+	default String findEntryId(String projectSlug) {
+		return null;
+	}
+
+}
@@ -17,56 +17,145 @@
 package io.spring.projectapi.contentful;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 
 import org.springframework.web.reactive.function.client.WebClient;
 
 /**
- * Central class for interacting with Contentful's REST and GraphQL API.
+ * Central class for interacting with Contentful's REST and GraphQL API. Reads performed
+ * by this class block until data is available, use {@link #reactive()} for non-blocking
+ * reads.
  *
  * @author Madhura Bhave
  * @author Phillip Webb
  */
 public class ContentfulService {
 
-	private final ContentfulQueries queries;
+	private final ContentfulReader reader;
 
 	private final ContentfulOperations operations;
 
-	public ContentfulService(ObjectMapper objectMapper, WebClient webClient, String accessToken, String spaceId,
-			String environmentId) {
-		this.queries = new ContentfulQueries(webClient, accessToken);
-		this.operations = new ContentfulOperations(objectMapper, accessToken, spaceId, environmentId);
+	private final ReactiveContentfulService reactive;
+
+	public ContentfulService(ObjectMapper objectMapper, WebClient webClient, WebClient deliveryWebClient,
+			String accessToken, String spaceId, String environmentId, String managementUrl,
+			ContentfulCacheSettings cacheSettings, ContentfulCatalogSettings catalogSettings, Executor executor,
+			MeterRegistry meterRegistry) {
+		ContentfulMetrics metrics = new ContentfulMetrics(meterRegistry);
+		ContentfulQueries queries = new ContentfulQueries(webClient, accessToken, metrics);
+		ContentfulSync sync = (catalogSettings.isSync())
+				? new ContentfulSync(deliveryWebClient, accessToken, objectMapper) : null;
+		ProjectCatalogFile file = (catalogSettings.getFile() != null)
+				? new ProjectCatalogFile(objectMapper, catalogSettings.getFile()) : null;
+		this.reader = createReader(queries, sync, file, cacheSettings, catalogSettings, executor);
+		this.operations = new ContentfulOperations(objectMapper, accessToken, spaceId, environmentId, managementUrl,
+				metrics, this.reader::findEntryId);
+		this.reactive = new ReactiveContentfulService(this.reader);
 	}
 
-	ContentfulService(ContentfulQueries queries, ContentfulOperations operations) {
-		this.queries = queries;
+	ContentfulService(ContentfulReader reader, ContentfulOperations operations) {
+		this.reader = reader;
 		this.operations = operations;
+		this.reactive = new ReactiveContentfulService(reader);
+	}
+
+	private static ContentfulReader createReader(ContentfulQueries queries, ContentfulSync sync,
+			ProjectCatalogFile file, ContentfulCacheSettings cacheSettings, ContentfulCatalogSettings catalogSettings,
+			Executor executor) {
+		if (catalogSettings.isEnabled()) {
+			ContentfulCatalog catalog = new ContentfulCatalog(queries, sync, file, catalogSettings, executor);
+			catalog.restore();
+			return catalog;
+		}
+		return new ContentfulQueryCache(queries, cacheSettings, executor);
+	}
+
+	/**
+	 * Return a {@link ReactiveContentfulService} that shares the data held by this
+	 * service.
+	 * @return the reactive service
+	 */
+	public ReactiveContentfulService reactive() {
+		return this.reactive;
+	}
+
+	/**
+	 * Return an opaque version that changes whenever the project data returned by this
+	 * service may have changed. Suitable for use as an HTTP entity tag.
+	 * @return the current version
+	 */
+	public String getVersion() {
+		return this.reader.getVersion();
 	}
 
 	public List<Project> getProjects() {
-		return this.queries.getProjects();
+		return this.reader.getProjects().block();
 	}
 
 	public Project getProject(String projectSlug) {
-		return this.queries.getProject(projectSlug);
+		return this.reader.getProject(projectSlug).block();
 	}
 
 	public List<ProjectDocumentation> getProjectDocumentations(String projectSlug) {
-		return this.queries.getProjectDocumentations(projectSlug);
+		return this.reader.getProjectDocumentations(projectSlug).block();
+	}
+
+	public ProjectDocumentationIndex getProjectDocumentationIndex(String projectSlug) {
+		return this.reader.getProjectDocumentationIndex(projectSlug).block();
 	}
 
 	public List<ProjectSupport> getProjectSupports(String projectSlug) {
-		return this.queries.getProjectSupports(projectSlug);
+		return this.reader.getProjectSupports(projectSlug).block();
+	}
+
+	/**
+	 * Evict any locally held data for the project backed by the given Contentful entry
+	 * so that it is reloaded.
+	 * @param entryId the ID of the Contentful entry that changed
+	 * @param projectSlug the slug of the project or {@code null} if not known
+	 */
+	public void evictProjectEntry(String entryId, String projectSlug) {
+		this.reader.evictEntry(entryId, projectSlug);
 	}
 
 	public void addProjectDocumentation(String projectSlug, ProjectDocumentation documentation) {
-		this.operations.addProjectDocumentation(projectSlug, documentation);
+		addProjectDocumentations(projectSlug, List.of(documentation));
+	}
+
+	/**
+	 * Add several documentation entries to a project with a single Contentful update.
+	 * Either all entries are added or, if any version is already present, none are.
+	 * @param projectSlug the project slug
+	 * @param documentations the documentation entries to add
+	 * @throws DocumentationAlreadyPresentException if any version is already present
+	 */
+	public void addProjectDocumentations(String projectSlug, List<ProjectDocumentation> documentations) {
+		this.operations.addProjectDocumentations(projectSlug, documentations);
+		this.reader.evictProject(projectSlug);
+	}
+
+	/**
+	 * Add documentation entries to several projects. All affected projects are fetched
+	 * with a single Contentful query and then updated concurrently. A failure to update
+	 * one project does not prevent others from being updated.
+	 * @param documentations the documentation entries to add, keyed by project slug
+	 * @return the result for each project in the order given
+	 */
+	public List<DocumentationUpdateResult> addProjectDocumentations(
+			Map<String, List<ProjectDocumentation>> documentations) {
+		List<DocumentationUpdateResult> results = this.operations.addProjectDocumentations(documentations);
+		results.stream().filter((result) -> result.getOutcome() == DocumentationUpdateResult.Outcome.UPDATED)
+				.forEach((result) -> this.reader.evictProject(result.getProjectSlug()));
+		return results;
 	}
 
 	public void deleteDocumentation(String projectSlug, String version) {
 		this.operations.deleteDocumentation(projectSlug, version);
+		this.reader.evictProject(projectSlug);
 	}
 
 }
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.projectapi.contentful.ProjectCatalog.Entry;
+
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Incremental updates of a {@link ProjectCatalog} performed via the Contentful
+ * <a href="https://www.contentful.com/developers/docs/references/content-delivery-api/#/reference/synchronization">Sync
+ * API</a>. The first sync loads every project entry, subsequent syncs use the last
+ * {@code nextSyncToken} so that only changed and deleted entries are transferred.
+ *
+ * @author Phillip Webb
+ */
+class ContentfulSync {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+	private static final String LOCALE = "en-US";
+
+	private static final String DELETED_ENTRY = "DeletedEntry";
+
+	private static final TypeReference<List<ProjectDocumentation>> DOCUMENTATIONS = new TypeReference<>() {
+	};
+
+	private static final TypeReference<List<ProjectSupport>> SUPPORTS = new TypeReference<>() {
+	};
+
+	private final WebClient webClient;
+
+	private final String accessToken;
+
+	private final ObjectMapper objectMapper;
+
+	private volatile String syncToken;
+
+	ContentfulSync(WebClient webClient, String accessToken, ObjectMapper objectMapper) {
+		this.webClient = webClient;
+		this.accessToken = accessToken;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Sync the given catalog with Contentful.
+	 * @param catalog the current catalog
+	 * @return an updated catalog
+	 */
+	ProjectCatalog apply(ProjectCatalog catalog) {
+		String syncToken = this.syncToken;
+		boolean initial = syncToken == null;
+		List<Entry> changed = new ArrayList<>();
+		Set<String> deleted = new LinkedHashSet<>();
+		SyncResponse response = (initial) ? fetch(this::initialSync) : fetch(syncToken);
+		collect(response, changed, deleted);
+		while (response.nextPageUrl() != null) {
+			response = fetch(getSyncToken(response.nextPageUrl()));
+			collect(response, changed, deleted);
+		}
+		this.syncToken = getSyncToken(response.nextSyncUrl());
+		return (initial) ? ProjectCatalog.of(changed) : catalog.withChanges(changed, deleted);
+	}
+
+	String getSyncToken() {
+		return this.syncToken;
+	}
+
+	private URI initialSync(UriBuilder uri) {
+		return uri.path("/sync").queryParam("initial", true).queryParam("type", "Entry")
+				.queryParam("content_type", "project").build();
+	}
+
+	private SyncResponse fetch(String syncToken) {
+		return fetch((uri) -> uri.path("/sync").queryParam("sync_token", "{syncToken}").build(syncToken));
+	}
+
+	private SyncResponse fetch(Function<UriBuilder, URI> uri) {
+		try {
+			SyncResponse response = this.webClient.get().uri(uri)
+					.headers((headers) -> headers.setBearerAuth(this.accessToken)).retrieve()
+					.bodyToMono(SyncResponse.class).block(TIMEOUT);
+			InvalidContentfulQueryResponseException.throwIfNull(response);
+			return response;
+		}
+		catch (WebClientResponseException ex) {
+			if (ex.getStatusCode().is4xxClientError()) {
+				// The sync token is no longer valid, start again on the next sync
+				this.syncToken = null;
+			}
+			throw new InvalidContentfulQueryResponseException(ex);
+		}
+	}
+
+	private String getSyncToken(String url) {
+		String syncToken = UriComponentsBuilder.fromUriString(url).build().getQueryParams().getFirst("sync_token");
+		InvalidContentfulQueryResponseException.throwIfNull(syncToken);
+		return UriUtils.decode(syncToken, StandardCharsets.UTF_8);
+	}
+
+	private void collect(SyncResponse response, List<Entry> changed, Set<String> deleted) {
+		if (response.items() == null) {
+			return;
+		}
+		for (SyncItem item : response.items()) {
+			String id = item.sys().id();
+			if (DELETED_ENTRY.equals(item.sys().type())) {
+				deleted.add(id);
+				changed.removeIf((entry) -> id.equals(entry.getId()));
+				continue;
+			}
+			Entry entry = asEntry(item);
+			if (entry != null) {
+				deleted.remove(id);
+				changed.add(entry);
+			}
+		}
+	}
+
+	private Entry asEntry(SyncItem item) {
+		Map<String, Map<String, JsonNode>> fields = item.fields();
+		String title = field(fields, "title", String.class);
+		String slug = field(fields, "slug", String.class);
+		if (title == null || slug == null) {
+			return null;
+		}
+		String github = field(fields, "github", String.class);
+		Project.Status status = field(fields, "status", Project.Status.class);
+		Project project = new Project(title, slug, github, status);
+		return new Entry(item.sys().id(), project, field(fields, "documentation", DOCUMENTATIONS),
+				field(fields, "support", SUPPORTS));
+	}
+
+	private <T> T field(Map<String, Map<String, JsonNode>> fields, String name, Class<T> type) {
+		JsonNode value = getLocalizedValue(fields, name);
+		return (value != null) ? this.objectMapper.convertValue(value, type) : null;
+	}
+
+	private <T> T field(Map<String, Map<String, JsonNode>> fields, String name, TypeReference<T> type) {
+		JsonNode value = getLocalizedValue(fields, name);
+		return (value != null) ? this.objectMapper.convertValue(value, type) : null;
+	}
+
+	private JsonNode getLocalizedValue(Map<String, Map<String, JsonNode>> fields, String name) {
+		Map<String, JsonNode> localized = (fields != null) ? fields.get(name) : null;
+		JsonNode value = (localized != null) ? localized.get(LOCALE) : null;
+		return (value != null && !value.isNull()) ? value : null;
+	}
+
+	/**
+	 * A page of sync results.
+	 *
+	 * @param items the changed or deleted items
+	 * @param nextPageUrl the URL of the next page or {@code null}
+	 * @param nextSyncUrl the URL to use for the next sync or {@code null}
+	 */
+	record SyncResponse(List<SyncItem> items, String nextPageUrl, String nextSyncUrl) {
+
+	}
+
+	/**
+	 * A single changed or deleted item.
+	 *
+	 * @param sys the system properties
+	 * @param fields the localized fields
+	 */
+	record SyncItem(Sys sys, Map<String, Map<String, JsonNode>> fields) {
+
+	}
+
+	/**
+	 * Contentful system properties.
+	 *
+	 * @param id the ID of the item
+	 * @param type the type of the item
+	 */
+	record Sys(String id, String type) {
+
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opaque version of the data held by a {@link ContentfulReader}. The version is
+ * incremented each time the data may have changed and is prefixed with a random instance
+ * ID so that versions from different application instances never collide.
+ *
+ * @author Phillip Webb
+ */
+final class DataVersion {
+
+	private final String instanceId = UUID.randomUUID().toString();
+
+	private final AtomicLong counter = new AtomicLong();
+
+	/**
+	 * Increment the version. Must be called after the changed data has become visible to
+	 * readers.
+	 */
+	void increment() {
+		this.counter.incrementAndGet();
+	}
+
+	@Override
+	public String toString() {
+		return this.instanceId + "-" + this.counter.get();
+	}
+
+}
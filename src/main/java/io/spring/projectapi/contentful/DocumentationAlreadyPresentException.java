@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ContentfulException} thrown when documentation cannot be added because a
+ * release with the same version is already present. No documentation is added when
+ * this exception is thrown.
+ *
+ * @author Phillip Webb
+ */
+public final class DocumentationAlreadyPresentException extends ContentfulException {
+
+	private final String projectSlug;
+
+	private final List<String> versions;
+
+	private DocumentationAlreadyPresentException(String projectSlug, List<String> versions) {
+		super(getMessage(projectSlug, versions));
+		this.projectSlug = projectSlug;
+		this.versions = versions;
+	}
+
+	public String getProjectSlug() {
+		return this.projectSlug;
+	}
+
+	/**
+	 * Return the versions that are already present.
+	 * @return the versions
+	 */
+	public List<String> getVersions() {
+		return this.versions;
+	}
+
+	/**
+	 * Return the message used to report that the given versions are already present.
+	 * Allows releases that are found to be present before Contentful is updated to be
+	 * reported in the same way as this exception.
+	 * @param projectSlug the project slug
+	 * @param versions the versions that are already present
+	 * @return the message
+	 */
+	public static String getMessage(String projectSlug, List<String> versions) {
+		String quoted = versions.stream().map((version) -> "'" + version + "'").collect(Collectors.joining(", "));
+		return "%s %s already present for project '%s'".formatted((versions.size() > 1) ? "Releases" : "Release",
+				quoted, projectSlug);
+	}
+
+	static void throwIfNotEmpty(List<String> versions, String projectSlug) {
+		if (!versions.isEmpty()) {
+			throw new DocumentationAlreadyPresentException(projectSlug, List.copyOf(versions));
+		}
+	}
+
+}
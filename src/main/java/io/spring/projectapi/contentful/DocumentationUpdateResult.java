@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+/**
+ * The result of adding documentation to a single project as part of a bulk update.
+ *
+ * @author Phillip Webb
+ * @see ContentfulService#addProjectDocumentations(java.util.Map)
+ */
+public final class DocumentationUpdateResult {
+
+	private final String projectSlug;
+
+	private final Outcome outcome;
+
+	private final String message;
+
+	public DocumentationUpdateResult(String projectSlug, Outcome outcome, String message) {
+		this.projectSlug = projectSlug;
+		this.outcome = outcome;
+		this.message = message;
+	}
+
+	public String getProjectSlug() {
+		return this.projectSlug;
+	}
+
+	public Outcome getOutcome() {
+		return this.outcome;
+	}
+
+	public String getMessage() {
+		return this.message;
+	}
+
+	static DocumentationUpdateResult updated(String projectSlug) {
+		return new DocumentationUpdateResult(projectSlug, Outcome.UPDATED, null);
+	}
+
+	static DocumentationUpdateResult notFound(String projectSlug) {
+		return new DocumentationUpdateResult(projectSlug, Outcome.NOT_FOUND,
+				"Project '%s' not found".formatted(projectSlug));
+	}
+
+	static DocumentationUpdateResult alreadyPresent(DocumentationAlreadyPresentException ex) {
+		return new DocumentationUpdateResult(ex.getProjectSlug(), Outcome.ALREADY_PRESENT, ex.getMessage());
+	}
+
+	static DocumentationUpdateResult failed(String projectSlug) {
+		// Details are logged rather than returned since they may reveal internals
+		return new DocumentationUpdateResult(projectSlug, Outcome.FAILED,
+				"Project '%s' could not be updated".formatted(projectSlug));
+	}
+
+	/**
+	 * Outcome of the update.
+	 */
+	public enum Outcome {
+
+		/**
+		 * The documentation was added.
+		 */
+		UPDATED,
+
+		/**
+		 * The project does not exist.
+		 */
+		NOT_FOUND,
+
+		/**
+		 * One or more releases with the same version are already present so nothing was
+		 * added.
+		 */
+		ALREADY_PRESENT,
+
+		/**
+		 * The project could not be updated.
+		 */
+		FAILED
+
+	}
+
+}
@@ -34,6 +34,12 @@ public class InvalidContentfulQueryResponseException extends ContentfulException
 		super(message);
 	}
 
+	static void throwIfNull(Object value) {
+		if (value == null) {
+			throw new InvalidContentfulQueryResponseException("Empty or invalid contentful response");
+		}
+	}
+
 	static void throwIfInvalid(ClientGraphQlResponse response) {
 		if (response == null || !response.isValid()) {
 			throw new InvalidContentfulQueryResponseException("Empty or invalid contentful response");
@@ -46,6 +46,12 @@ public final class NoSuchContentfulProjectException extends ContentfulException
 		}
 	}
 
+	static void throwIfNull(Object item, String projectSlug) {
+		if (item == null) {
+			throw new NoSuchContentfulProjectException(projectSlug);
+		}
+	}
+
 	static void throwIfHasNoValue(ClientResponseField field, String projectSlug) {
 		if (!field.hasValue()) {
 			throw new NoSuchContentfulProjectException(projectSlug);
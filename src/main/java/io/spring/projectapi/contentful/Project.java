@@ -16,6 +16,8 @@
 
 package io.spring.projectapi.contentful;
 
+import java.util.Objects;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonCreator.Mode;
 
@@ -64,6 +66,24 @@ public class Project {
 		return this.status;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		Project other = (Project) obj;
+		return this.title.equals(other.title) && this.slug.equals(other.slug)
+				&& Objects.equals(this.github, other.github) && this.status == other.status;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.title, this.slug, this.github, this.status);
+	}
+
 	/**
 	 * Project status.
 	 */
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonCreator.Mode;
+
+import org.springframework.util.Assert;
+
+/**
+ * Immutable snapshot of all Contentful projects along with their documentation and
+ * support, indexed by project slug.
+ *
+ * @author Phillip Webb
+ */
+final class ProjectCatalog {
+
+	/**
+	 * An empty catalog.
+	 */
+	static final ProjectCatalog EMPTY = new ProjectCatalog(Collections.emptyMap());
+
+	private final Map<String, Entry> entries;
+
+	private final List<Project> projects;
+
+	private final Map<String, String> slugsById;
+
+	private final Map<String, ProjectDocumentationIndex> documentationIndexes;
+
+	private final Map<String, List<ProjectSupport>> supports;
+
+	private ProjectCatalog(Map<String, Entry> entries) {
+		this.entries = Collections.unmodifiableMap(entries);
+		this.projects = entries.values().stream().map(Entry::getProject).toList();
+		Map<String, ProjectDocumentationIndex> documentationIndexes = new LinkedHashMap<>();
+		Map<String, List<ProjectSupport>> supports = new LinkedHashMap<>();
+		entries.forEach((slug, entry) -> {
+			documentationIndexes.put(slug, entry.getDocumentationIndex());
+			supports.put(slug, entry.getSupports());
+		});
+		this.documentationIndexes = Collections.unmodifiableMap(documentationIndexes);
+		this.supports = Collections.unmodifiableMap(supports);
+		this.slugsById = new HashMap<>();
+		entries.forEach((slug, entry) -> {
+			if (entry.getId() != null) {
+				this.slugsById.put(entry.getId(), slug);
+			}
+		});
+	}
+
+	List<Project> getProjects() {
+		return this.projects;
+	}
+
+	Project getProject(String projectSlug) {
+		return getEntry(projectSlug).getProject();
+	}
+
+	List<ProjectDocumentation> getProjectDocumentations(String projectSlug) {
+		return getEntry(projectSlug).getDocumentations();
+	}
+
+	ProjectDocumentationIndex getProjectDocumentationIndex(String projectSlug) {
+		return getEntry(projectSlug).getDocumentationIndex();
+	}
+
+	/**
+	 * Return the documentation index of every project, keyed by project slug.
+	 * @return the documentation indexes
+	 */
+	Map<String, ProjectDocumentationIndex> getProjectDocumentationIndexes() {
+		return this.documentationIndexes;
+	}
+
+	/**
+	 * Return the support of every project, keyed by project slug.
+	 * @return the project supports
+	 */
+	Map<String, List<ProjectSupport>> getAllProjectSupports() {
+		return this.supports;
+	}
+
+	List<ProjectSupport> getProjectSupports(String projectSlug) {
+		return getEntry(projectSlug).getSupports();
+	}
+
+	Collection<Entry> getEntries() {
+		return this.entries.values();
+	}
+
+	/**
+	 * Find the slug of the project backed by the given Contentful entry.
+	 * @param entryId the entry ID
+	 * @return the project slug or {@code null}
+	 */
+	String findSlug(String entryId) {
+		return this.slugsById.get(entryId);
+	}
+
+	/**
+	 * Find the ID of the Contentful entry backing the given project.
+	 * @param projectSlug the project slug
+	 * @return the entry ID or {@code null}
+	 */
+	String findEntryId(String projectSlug) {
+		Entry entry = this.entries.get(projectSlug);
+		return (entry != null) ? entry.getId() : null;
+	}
+
+	private Entry getEntry(String projectSlug) {
+		Entry entry = this.entries.get(projectSlug);
+		NoSuchContentfulProjectException.throwIfNull(entry, projectSlug);
+		return entry;
+	}
+
+	/**
+	 * Return a new catalog with the given entry added or replaced.
+	 * @param entry the entry to add
+	 * @return a new catalog instance
+	 */
+	ProjectCatalog withEntry(Entry entry) {
+		Map<String, Entry> entries = new LinkedHashMap<>(this.entries);
+		entries.put(entry.getProject().getSlug(), entry);
+		return new ProjectCatalog(entries);
+	}
+
+	/**
+	 * Return a new catalog with the entry for the given project removed.
+	 * @param projectSlug the slug of the project to remove
+	 * @return a new catalog instance
+	 */
+	ProjectCatalog withoutEntry(String projectSlug) {
+		if (!this.entries.containsKey(projectSlug)) {
+			return this;
+		}
+		Map<String, Entry> entries = new LinkedHashMap<>(this.entries);
+		entries.remove(projectSlug);
+		return new ProjectCatalog(entries);
+	}
+
+	/**
+	 * Return a new catalog with the given changes applied.
+	 * @param changed entries that have been added or updated
+	 * @param deletedEntryIds the IDs of entries that have been deleted
+	 * @return a new catalog instance
+	 */
+	ProjectCatalog withChanges(Collection<Entry> changed, Collection<String> deletedEntryIds) {
+		if (changed.isEmpty() && deletedEntryIds.isEmpty()) {
+			return this;
+		}
+		Map<String, Entry> entries = new LinkedHashMap<>(this.entries);
+		deletedEntryIds.stream().map(this::findSlug).filter(Objects::nonNull).forEach(entries::remove);
+		for (Entry entry : changed) {
+			String slug = entry.getProject().getSlug();
+			String previousSlug = findSlug(entry.getId());
+			if (previousSlug != null && !previousSlug.equals(slug)) {
+				entries.remove(previousSlug);
+			}
+			entries.put(slug, entry);
+		}
+		return new ProjectCatalog(entries);
+	}
+
+	/**
+	 * Create a new {@link ProjectCatalog} from the given entries. If more than one entry
+	 * exists for the same project, the first is used.
+	 * @param entries the catalog entries
+	 * @return a new catalog instance
+	 */
+	static ProjectCatalog of(Collection<Entry> entries) {
+		Map<String, Entry> index = new LinkedHashMap<>();
+		entries.forEach((entry) -> index.putIfAbsent(entry.getProject().getSlug(), entry));
+		return new ProjectCatalog(index);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		ProjectCatalog other = (ProjectCatalog) obj;
+		return this.entries.equals(other.entries) && this.projects.equals(other.projects);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.entries.hashCode();
+	}
+
+	/**
+	 * A single catalog entry holding a project, its documentation and its support.
+	 */
+	static final class Entry {
+
+		private final String id;
+
+		private final Project project;
+
+		private final ProjectDocumentationIndex documentationIndex;
+
+		private final List<ProjectSupport> supports;
+
+		Entry(String id, Project project, List<ProjectDocumentation> documentations, List<ProjectSupport> supports) {
+			Assert.notNull(project, "'project' must not be null");
+			this.id = id;
+			this.project = project;
+			this.documentationIndex = ProjectDocumentationIndex.of(documentations);
+			this.supports = (supports != null) ? List.copyOf(supports) : Collections.emptyList();
+		}
+
+		@JsonCreator(mode = Mode.PROPERTIES)
+		static Entry fromJson(Sys sys, String title, String slug, String github, Project.Status status,
+				List<ProjectDocumentation> documentation, List<ProjectSupport> support) {
+			String id = (sys != null) ? sys.id() : null;
+			return new Entry(id, new Project(title, slug, github, status), documentation, support);
+		}
+
+		String getId() {
+			return this.id;
+		}
+
+		Project getProject() {
+			return this.project;
+		}
+
+		List<ProjectDocumentation> getDocumentations() {
+			return this.documentationIndex.getDocumentations();
+		}
+
+		ProjectDocumentationIndex getDocumentationIndex() {
+			return this.documentationIndex;
+		}
+
+		List<ProjectSupport> getSupports() {
+			return this.supports;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			Entry other = (Entry) obj;
+			return Objects.equals(this.id, other.id) && this.project.equals(other.project)
+					&& this.documentationIndex.equals(other.documentationIndex)
+					&& this.supports.equals(other.supports);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.id, this.project, this.documentationIndex, this.supports);
+		}
+
+	}
+
+	/**
+	 * Contentful system properties.
+	 *
+	 * @param id the entry ID
+	 */
+	record Sys(String id) {
+
+	}
+
+}
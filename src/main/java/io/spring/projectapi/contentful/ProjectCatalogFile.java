@@ -0,0 +1,122 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.projectapi.contentful.ProjectCatalog.Entry;
+import io.spring.projectapi.contentful.ProjectCatalog.Sys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Local file used to persist the last good {@link ProjectCatalog} so that it can be
+ * served immediately on startup. The file contains gzipped JSON in the same shape as
+ * the Contentful catalog query.
+ *
+ * @author Phillip Webb
+ */
+class ProjectCatalogFile {
+
+	private static final Logger logger = LoggerFactory.getLogger(ProjectCatalogFile.class);
+
+	private static final TypeReference<List<Entry>> ENTRIES = new TypeReference<>() {
+	};
+
+	private final ObjectMapper objectMapper;
+
+	private final Path path;
+
+	ProjectCatalogFile(ObjectMapper objectMapper, Path path) {
+		this.objectMapper = objectMapper;
+		this.path = path;
+	}
+
+	@Override
+	public String toString() {
+		return this.path.toString();
+	}
+
+	/**
+	 * Read the catalog from the file.
+	 * @return the catalog or {@code null} if the file does not exist or cannot be read
+	 */
+	ProjectCatalog read() {
+		if (!Files.isRegularFile(this.path)) {
+			return null;
+		}
+		try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(this.path))) {
+			return ProjectCatalog.of(this.objectMapper.readValue(inputStream, ENTRIES));
+		}
+		catch (IOException | RuntimeException ex) {
+			logger.warn("Unable to read project catalog from '{}'", this.path, ex);
+			return null;
+		}
+	}
+
+	/**
+	 * Write the catalog to the file, replacing any existing content. The file is written
+	 * atomically so that a partially written catalog is never read.
+	 * @param catalog the catalog to write
+	 */
+	void write(ProjectCatalog catalog) {
+		List<StoredEntry> entries = catalog.getEntries().stream().map(StoredEntry::of).toList();
+		try {
+			Path directory = this.path.toAbsolutePath().getParent();
+			Files.createDirectories(directory);
+			Path temp = Files.createTempFile(directory, this.path.getFileName().toString(), ".tmp");
+			try {
+				try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(temp))) {
+					this.objectMapper.writeValue(outputStream, entries);
+				}
+				Files.move(temp, this.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			finally {
+				Files.deleteIfExists(temp);
+			}
+		}
+		catch (IOException | RuntimeException ex) {
+			logger.warn("Unable to write project catalog to '{}'", this.path, ex);
+		}
+	}
+
+	/**
+	 * Stored form of an {@link Entry}, matching the JSON read by
+	 * {@link Entry#fromJson}.
+	 */
+	private record StoredEntry(Sys sys, String title, String slug, String github, Project.Status status,
+			List<ProjectDocumentation> documentation, List<ProjectSupport> support) {
+
+		static StoredEntry of(Entry entry) {
+			Project project = entry.getProject();
+			return new StoredEntry(new Sys(entry.getId()), project.getTitle(), project.getSlug(), project.getGithub(),
+					project.getStatus(), entry.getDocumentations(), entry.getSupports());
+		}
+
+	}
+
+}
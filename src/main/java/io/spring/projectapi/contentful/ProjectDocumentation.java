@@ -16,8 +16,11 @@
 
 package io.spring.projectapi.contentful;
 
+import java.util.Objects;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonCreator.Mode;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 /**
  * Java representation of the {@code project documentation} type as defined in
@@ -40,6 +43,8 @@ public class ProjectDocumentation {
 
 	private final boolean current;
 
+	private final ReleaseVersion releaseVersion;
+
 	@JsonCreator(mode = Mode.PROPERTIES)
 	public ProjectDocumentation(String version, String api, String ref, Status status, String repository,
 			boolean current) {
@@ -49,6 +54,7 @@ public class ProjectDocumentation {
 		this.status = status;
 		this.repository = repository;
 		this.current = current;
+		this.releaseVersion = (version != null) ? ReleaseVersion.of(version) : null;
 	}
 
 	public String getVersion() {
@@ -75,6 +81,34 @@ public class ProjectDocumentation {
 		return this.current;
 	}
 
+	/**
+	 * Return the parsed form of the {@link #getVersion() version}.
+	 * @return the release version or {@code null} if there is no version
+	 */
+	@JsonIgnore
+	public ReleaseVersion getReleaseVersion() {
+		return this.releaseVersion;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		ProjectDocumentation other = (ProjectDocumentation) obj;
+		return Objects.equals(this.version, other.version) && Objects.equals(this.api, other.api)
+				&& Objects.equals(this.ref, other.ref) && this.status == other.status
+				&& Objects.equals(this.repository, other.repository) && this.current == other.current;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.version, this.api, this.ref, this.status, this.repository, this.current);
+	}
+
 	/**
 	 * Project documentation status.
 	 */
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import io.spring.projectapi.contentful.ProjectDocumentation.Status;
+
+/**
+ * Immutable index over the documentation of a single project allowing releases to be
+ * found by version, status or as the current release without scanning the full list.
+ * Documentation is ordered by {@link ReleaseVersion release version}, newest first.
+ * Indexes are built once when project data is loaded and shared by all readers.
+ *
+ * @author Phillip Webb
+ */
+public final class ProjectDocumentationIndex {
+
+	private static final Comparator<ProjectDocumentation> NEWEST_FIRST = Comparator
+			.comparing(ProjectDocumentation::getReleaseVersion, Comparator.nullsLast(Comparator.reverseOrder()));
+
+	private static final ProjectDocumentationIndex EMPTY = new ProjectDocumentationIndex(Collections.emptyList());
+
+	private final List<ProjectDocumentation> documentations;
+
+	private final Map<String, ProjectDocumentation> byVersion;
+
+	private final Map<Status, List<ProjectDocumentation>> byStatus;
+
+	private final ProjectDocumentation current;
+
+	private ProjectDocumentationIndex(List<ProjectDocumentation> documentations) {
+		List<ProjectDocumentation> sorted = new ArrayList<>(documentations);
+		sorted.sort(NEWEST_FIRST);
+		this.documentations = Collections.unmodifiableList(sorted);
+		Map<String, ProjectDocumentation> byVersion = new HashMap<>(documentations.size() * 2);
+		documentations.forEach((documentation) -> byVersion.putIfAbsent(documentation.getVersion(), documentation));
+		this.byVersion = Collections.unmodifiableMap(byVersion);
+		Map<Status, List<ProjectDocumentation>> byStatus = sorted.stream()
+				.filter((documentation) -> documentation.getStatus() != null)
+				.collect(Collectors.groupingBy(ProjectDocumentation::getStatus, () -> new EnumMap<>(Status.class),
+						Collectors.toUnmodifiableList()));
+		this.byStatus = Collections.unmodifiableMap(byStatus);
+		this.current = documentations.stream().filter(ProjectDocumentation::isCurrent).findFirst().orElse(null);
+	}
+
+	/**
+	 * Return all documentation, newest release first.
+	 * @return the documentation
+	 */
+	public List<ProjectDocumentation> getDocumentations() {
+		return this.documentations;
+	}
+
+	/**
+	 * Return all documentation with the given status, newest release first.
+	 * @param status the status
+	 * @return the matching documentation
+	 */
+	public List<ProjectDocumentation> getDocumentations(Status status) {
+		return this.byStatus.getOrDefault(status, Collections.emptyList());
+	}
+
+	/**
+	 * Return documentation with the given status and within the given range, newest
+	 * release first. The range is located using a binary search of the sorted
+	 * documentation.
+	 * @param status the status or {@code null} to match any status
+	 * @param range the version range or {@code null} to match any version
+	 * @return the matching documentation
+	 */
+	public List<ProjectDocumentation> getDocumentations(Status status, ReleaseVersionRange range) {
+		List<ProjectDocumentation> documentations = (status != null) ? getDocumentations(status)
+				: this.documentations;
+		if (range == null) {
+			return documentations;
+		}
+		int start = partitionPoint(documentations, range::isAboveUpper);
+		int end = partitionPoint(documentations, range::isAtLeastLower);
+		return (start < end) ? documentations.subList(start, end) : Collections.emptyList();
+	}
+
+	/**
+	 * Return the index of the first documentation that doesn't match the given
+	 * predicate, which must match a (possibly empty) prefix of the documentation.
+	 * @param documentations the sorted documentation
+	 * @param predicate the predicate to apply to each release version
+	 * @return the partition point
+	 */
+	private int partitionPoint(List<ProjectDocumentation> documentations, Predicate<ReleaseVersion> predicate) {
+		int low = 0;
+		int high = documentations.size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (predicate.test(documentations.get(mid).getReleaseVersion())) {
+				low = mid + 1;
+			}
+			else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Find the documentation for the given version.
+	 * @param version the version
+	 * @return the documentation or {@code null}
+	 */
+	public ProjectDocumentation find(String version) {
+		return this.byVersion.get(version);
+	}
+
+	/**
+	 * Return if documentation exists for the given version.
+	 * @param version the version
+	 * @return if the version exists
+	 */
+	public boolean contains(String version) {
+		return this.byVersion.containsKey(version);
+	}
+
+	/**
+	 * Return the documentation for the current release.
+	 * @return the current documentation or {@code null}
+	 */
+	public ProjectDocumentation getCurrent() {
+		return this.current;
+	}
+
+	/**
+	 * Create a new {@link ProjectDocumentationIndex} for the given documentation.
+	 * @param documentations the documentation to index
+	 * @return a new index instance
+	 */
+	public static ProjectDocumentationIndex of(List<ProjectDocumentation> documentations) {
+		return (documentations == null || documentations.isEmpty()) ? EMPTY
+				: new ProjectDocumentationIndex(documentations);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		return this.documentations.equals(((ProjectDocumentationIndex) obj).documentations);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.documentations.hashCode();
+	}
+
+}
@@ -17,6 +17,7 @@
 package io.spring.projectapi.contentful;
 
 import java.time.LocalDate;
+import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonCreator.Mode;
@@ -83,4 +84,26 @@ public class ProjectSupport {
 		return this.commercialPolicyEnd;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		ProjectSupport other = (ProjectSupport) obj;
+		return Objects.equals(this.branch, other.branch) && Objects.equals(this.initialDate, other.initialDate)
+				&& Objects.equals(this.ossEnforcedEnd, other.ossEnforcedEnd)
+				&& Objects.equals(this.ossPolicyEnd, other.ossPolicyEnd)
+				&& Objects.equals(this.commercialEnforcedEnd, other.commercialEnforcedEnd)
+				&& Objects.equals(this.commercialPolicyEnd, other.commercialPolicyEnd);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.branch, this.initialDate, this.ossEnforcedEnd, this.ossPolicyEnd,
+				this.commercialEnforcedEnd, this.commercialPolicyEnd);
+	}
+
 }
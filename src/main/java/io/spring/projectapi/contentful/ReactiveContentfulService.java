@@ -0,0 +1,87 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import java.util.List;
+import java.util.Map;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of {@link ContentfulService} used to read project data.
+ *
+ * @author Phillip Webb
+ * @see ContentfulService#reactive()
+ */
+public class ReactiveContentfulService {
+
+	private final ContentfulReader reader;
+
+	ReactiveContentfulService(ContentfulReader reader) {
+		this.reader = reader;
+	}
+
+	/**
+	 * Return an opaque version that changes whenever the project data returned by this
+	 * service may have changed. Suitable for use as an HTTP entity tag.
+	 * @return the current version
+	 * @see ContentfulService#getVersion()
+	 */
+	public String getVersion() {
+		return this.reader.getVersion();
+	}
+
+	public Flux<Project> getProjects() {
+		return this.reader.getProjects().flatMapIterable((projects) -> projects);
+	}
+
+	public Mono<Project> getProject(String projectSlug) {
+		return this.reader.getProject(projectSlug);
+	}
+
+	public Flux<ProjectDocumentation> getProjectDocumentations(String projectSlug) {
+		return this.reader.getProjectDocumentations(projectSlug).flatMapIterable((documentations) -> documentations);
+	}
+
+	public Mono<ProjectDocumentationIndex> getProjectDocumentationIndex(String projectSlug) {
+		return this.reader.getProjectDocumentationIndex(projectSlug);
+	}
+
+	/**
+	 * Return the documentation index of every project, keyed by project slug, without
+	 * querying each project individually.
+	 * @return the documentation indexes
+	 */
+	public Mono<Map<String, ProjectDocumentationIndex>> getProjectDocumentationIndexes() {
+		return this.reader.getProjectDocumentationIndexes();
+	}
+
+	/**
+	 * Return the support of every project, keyed by project slug, without querying each
+	 * project individually.
+	 * @return the project supports
+	 */
+	public Mono<Map<String, List<ProjectSupport>>> getAllProjectSupports() {
+		return this.reader.getAllProjectSupports();
+	}
+
+	public Flux<ProjectSupport> getProjectSupports(String projectSlug) {
+		return this.reader.getProjectSupports(projectSlug).flatMapIterable((supports) -> supports);
+	}
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.util.Assert;
+
+/**
+ * A parsed release version. Versions follow the {@code major.minor.patch} form with an
+ * optional milestone ({@code M1}), release candidate ({@code RC1}) or {@code SNAPSHOT}
+ * qualifier. Versions that don't start with a number (for example, release train names)
+ * are still classified by their qualifier but are ordered before all numeric versions.
+ * Instances are interned so that the same version is only parsed once.
+ *
+ * @author Phillip Webb
+ */
+public final class ReleaseVersion implements Comparable<ReleaseVersion> {
+
+	private static final Pattern NUMERIC_PATTERN = Pattern.compile("(\\d+)(?:\\.(\\d+))?(?:\\.(\\d+))?(?:[\\.\\-].*)?");
+
+	private static final Pattern PRERELEASE_PATTERN = Pattern.compile("[A-Za-z0-9\\.\\-]+?(M|RC)(\\d+)");
+
+	private static final String SNAPSHOT_SUFFIX = "SNAPSHOT";
+
+	private static final int MAXIMUM_INTERNED = 10000;
+
+	private static final Map<String, ReleaseVersion> interned = new ConcurrentHashMap<>();
+
+	private static final Comparator<ReleaseVersion> COMPARATOR = Comparator
+			.comparing((ReleaseVersion version) -> version.numeric).thenComparingInt((version) -> version.major)
+			.thenComparingInt((version) -> version.minor).thenComparingInt((version) -> version.patch)
+			.thenComparing((version) -> version.type).thenComparingInt((version) -> version.qualifierNumber)
+			.thenComparing((version) -> version.version);
+
+	private final String version;
+
+	private final boolean numeric;
+
+	private final int major;
+
+	private final int minor;
+
+	private final int patch;
+
+	private final Type type;
+
+	private final int qualifierNumber;
+
+	private ReleaseVersion(String version) {
+		this.version = version;
+		Matcher numericMatcher = NUMERIC_PATTERN.matcher(version);
+		this.numeric = numericMatcher.matches();
+		this.major = (this.numeric) ? parseNumber(numericMatcher.group(1)) : 0;
+		this.minor = (this.numeric) ? parseNumber(numericMatcher.group(2)) : 0;
+		this.patch = (this.numeric) ? parseNumber(numericMatcher.group(3)) : 0;
+		Matcher prereleaseMatcher = PRERELEASE_PATTERN.matcher(version);
+		if (version.endsWith(SNAPSHOT_SUFFIX)) {
+			this.type = Type.SNAPSHOT;
+			this.qualifierNumber = 0;
+		}
+		else if (prereleaseMatcher.matches()) {
+			this.type = ("M".equals(prereleaseMatcher.group(1))) ? Type.MILESTONE : Type.RELEASE_CANDIDATE;
+			this.qualifierNumber = parseNumber(prereleaseMatcher.group(2));
+		}
+		else {
+			this.type = Type.RELEASE;
+			this.qualifierNumber = 0;
+		}
+	}
+
+	private static int parseNumber(String value) {
+		if (value == null) {
+			return 0;
+		}
+		return (value.length() < 10) ? Integer.parseInt(value) : Integer.MAX_VALUE;
+	}
+
+	public int getMajor() {
+		return this.major;
+	}
+
+	public int getMinor() {
+		return this.minor;
+	}
+
+	public int getPatch() {
+		return this.patch;
+	}
+
+	public Type getType() {
+		return this.type;
+	}
+
+	/**
+	 * Return if the version starts with a {@code major.minor.patch} number. The
+	 * {@link #getMajor() major}, {@link #getMinor() minor} and {@link #getPatch() patch}
+	 * values are {@code 0} for versions that are not numeric.
+	 * @return if the version is numeric
+	 */
+	public boolean isNumeric() {
+		return this.numeric;
+	}
+
+	@Override
+	public int compareTo(ReleaseVersion other) {
+		return COMPARATOR.compare(this, other);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		return this.version.equals(((ReleaseVersion) obj).version);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.version.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return this.version;
+	}
+
+	/**
+	 * Return the {@link ReleaseVersion} for the given version string.
+	 * @param version the version
+	 * @return the parsed release version
+	 */
+	public static ReleaseVersion of(String version) {
+		Assert.notNull(version, "'version' must not be null");
+		ReleaseVersion releaseVersion = interned.get(version);
+		if (releaseVersion != null) {
+			return releaseVersion;
+		}
+		if (interned.size() >= MAXIMUM_INTERNED) {
+			return new ReleaseVersion(version);
+		}
+		return interned.computeIfAbsent(version, ReleaseVersion::new);
+	}
+
+	/**
+	 * Parse the given version without interning it. Used for versions that come from
+	 * requests rather than project data.
+	 * @param version the version
+	 * @return the parsed release version
+	 */
+	public static ReleaseVersion parse(String version) {
+		Assert.notNull(version, "'version' must not be null");
+		return new ReleaseVersion(version);
+	}
+
+	/**
+	 * The type of release, in the order in which releases of the same version are made.
+	 */
+	public enum Type {
+
+		/**
+		 * Milestone release.
+		 */
+		MILESTONE,
+
+		/**
+		 * Release candidate.
+		 */
+		RELEASE_CANDIDATE,
+
+		/**
+		 * Snapshot build.
+		 */
+		SNAPSHOT,
+
+		/**
+		 * Final release.
+		 */
+		RELEASE
+
+	}
+
+}
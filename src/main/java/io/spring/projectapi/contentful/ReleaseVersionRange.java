@@ -0,0 +1,129 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import org.springframework.util.Assert;
+
+/**
+ * A range of {@link ReleaseVersion release versions}. Ranges are either a single version
+ * (for example, {@code 2.7.0}) matching that version and anything newer, or an interval
+ * (for example, {@code [2.7.0,3.0.0)}) where square brackets include the bound and round
+ * brackets exclude it. Bounds are compared using {@link ReleaseVersion} ordering so
+ * {@code 2.7.0} does not include {@code 2.7.0-M1}.
+ *
+ * @author Phillip Webb
+ */
+public final class ReleaseVersionRange {
+
+	private final ReleaseVersion lower;
+
+	private final boolean lowerInclusive;
+
+	private final ReleaseVersion upper;
+
+	private final boolean upperInclusive;
+
+	private ReleaseVersionRange(ReleaseVersion lower, boolean lowerInclusive, ReleaseVersion upper,
+			boolean upperInclusive) {
+		this.lower = lower;
+		this.lowerInclusive = lowerInclusive;
+		this.upper = upper;
+		this.upperInclusive = upperInclusive;
+	}
+
+	/**
+	 * Return if the given version is within this range.
+	 * @param version the version to check
+	 * @return if the version is in range
+	 */
+	public boolean contains(ReleaseVersion version) {
+		return isAtLeastLower(version) && !isAboveUpper(version);
+	}
+
+	/**
+	 * Return if the given version satisfies the lower bound of this range.
+	 * @param version the version to check or {@code null}
+	 * @return if the version satisfies the lower bound
+	 */
+	boolean isAtLeastLower(ReleaseVersion version) {
+		if (version == null) {
+			return false;
+		}
+		int compare = version.compareTo(this.lower);
+		return (this.lowerInclusive) ? compare >= 0 : compare > 0;
+	}
+
+	/**
+	 * Return if the given version is beyond the upper bound of this range.
+	 * @param version the version to check or {@code null}
+	 * @return if the version is beyond the upper bound
+	 */
+	boolean isAboveUpper(ReleaseVersion version) {
+		if (version == null || this.upper == null) {
+			return false;
+		}
+		int compare = version.compareTo(this.upper);
+		return (this.upperInclusive) ? compare > 0 : compare >= 0;
+	}
+
+	@Override
+	public String toString() {
+		if (this.upper == null) {
+			return this.lower.toString();
+		}
+		return ((this.lowerInclusive) ? "[" : "(") + this.lower + "," + this.upper
+				+ ((this.upperInclusive) ? "]" : ")");
+	}
+
+	/**
+	 * Parse the given range.
+	 * @param range the range to parse
+	 * @return the parsed range
+	 * @throws IllegalArgumentException if the range is not valid
+	 */
+	public static ReleaseVersionRange parse(String range) {
+		Assert.hasText(range, "'range' must not be empty");
+		String trimmed = range.trim();
+		char first = trimmed.charAt(0);
+		if (first != '[' && first != '(') {
+			return new ReleaseVersionRange(parseBound(range, trimmed), true, null, false);
+		}
+		char last = trimmed.charAt(trimmed.length() - 1);
+		if (trimmed.length() < 2 || (last != ']' && last != ')')) {
+			throw new IllegalArgumentException("Invalid version range '%s'".formatted(range));
+		}
+		String[] bounds = trimmed.substring(1, trimmed.length() - 1).split(",", -1);
+		if (bounds.length != 2) {
+			throw new IllegalArgumentException("Invalid version range '%s'".formatted(range));
+		}
+		ReleaseVersion lower = parseBound(range, bounds[0].trim());
+		ReleaseVersion upper = parseBound(range, bounds[1].trim());
+		if (lower.compareTo(upper) > 0) {
+			throw new IllegalArgumentException("Invalid version range '%s'".formatted(range));
+		}
+		return new ReleaseVersionRange(lower, first == '[', upper, last == ']');
+	}
+
+	private static ReleaseVersion parseBound(String range, String bound) {
+		ReleaseVersion version = (!bound.isEmpty()) ? ReleaseVersion.parse(bound) : null;
+		if (version == null || !version.isNumeric()) {
+			throw new IllegalArgumentException("Invalid version range '%s'".formatted(range));
+		}
+		return version;
+	}
+
+}
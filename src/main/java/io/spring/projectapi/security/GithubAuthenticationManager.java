@@ -16,10 +16,14 @@
 
 package io.spring.projectapi.security;
 
+import java.io.InterruptedIOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,6 +42,8 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 /**
@@ -46,7 +52,8 @@ import org.springframework.web.client.RestTemplate;
  * <p>
  * This authentication method is used for API endpoints other than HTTP GET. This
  * {@link AuthenticationManager} expects requests that are similar to
- * {@code curl -u username:token https://spring.io/api}.
+ * {@code curl -u username:token https://spring.io/api}. Membership decisions can be
+ * cached using a {@link GithubMembershipCache}.
  *
  * @author Madhura Bhave
  */
@@ -54,7 +61,11 @@ class GithubAuthenticationManager implements AuthenticationManager {
 
 	private static final Logger logger = LoggerFactory.getLogger(GithubAuthenticationManager.class);
 
-	private static final String MEMBER_PATH_TEMPLATE = "https://api.github.com/orgs/{org}/teams/{team}/memberships/{username}";
+	private static final String DEFAULT_API_URL = "https://api.github.com";
+
+	private static final String MEMBERSHIP_REQUESTS = "github.membership.requests";
+
+	private static final String MEMBER_PATH_TEMPLATE = "/orgs/{org}/teams/{team}/memberships/{username}";
 
 	private static final ParameterizedTypeReference<Map<String, String>> STRING_MAP = new ParameterizedTypeReference<>() {
 	};
@@ -65,10 +76,25 @@ class GithubAuthenticationManager implements AuthenticationManager {
 
 	private final String team;
 
+	private final MeterRegistry meterRegistry;
+
+	private final GithubMembershipCache membershipCache;
+
 	GithubAuthenticationManager(RestTemplateBuilder restTemplateBuilder, String org, String team) {
-		this.restTemplate = restTemplateBuilder.build();
+		this(restTemplateBuilder, DEFAULT_API_URL, org, team);
+	}
+
+	GithubAuthenticationManager(RestTemplateBuilder restTemplateBuilder, String apiUrl, String org, String team) {
+		this(restTemplateBuilder, apiUrl, org, team, new SimpleMeterRegistry(), null);
+	}
+
+	GithubAuthenticationManager(RestTemplateBuilder restTemplateBuilder, String apiUrl, String org, String team,
+			MeterRegistry meterRegistry, GithubMembershipCache membershipCache) {
+		this.restTemplate = restTemplateBuilder.rootUri(apiUrl).build();
 		this.org = org;
 		this.team = team;
+		this.meterRegistry = meterRegistry;
+		this.membershipCache = membershipCache;
 	}
 
 	@Override
@@ -81,7 +107,10 @@ class GithubAuthenticationManager implements AuthenticationManager {
 		}
 		List<GrantedAuthority> authorities = new ArrayList<>();
 		User user = new User(username, token, authorities);
-		if (isAdmin(username, token)) {
+		boolean admin = (this.membershipCache != null)
+				? this.membershipCache.isMember(username, token, () -> isAdmin(username, token))
+				: isAdmin(username, token);
+		if (admin) {
 			authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
 		}
 		return new UsernamePasswordAuthenticationToken(user, null, authorities);
@@ -90,10 +119,12 @@ class GithubAuthenticationManager implements AuthenticationManager {
 	private boolean isAdmin(String userName, String accessToken) {
 		HttpHeaders headers = new HttpHeaders();
 		headers.setBasicAuth(userName, accessToken);
+		Timer.Sample sample = Timer.start(this.meterRegistry);
 		try {
 			logger.debug("Checking {}/{} membership for user {}", this.org, this.team, userName);
 			ResponseEntity<Map<String, String>> response = this.restTemplate.exchange(MEMBER_PATH_TEMPLATE,
 					HttpMethod.GET, new HttpEntity<>(headers), STRING_MAP, this.org, this.team, userName);
+			stop(sample, "SUCCESS", response.getStatusCodeValue());
 			if (response.getStatusCode().is2xxSuccessful()) {
 				logger.debug("Membership state is {}", response.getBody().get("state"));
 				return response.getBody().get("state").equals("active");
@@ -101,9 +132,24 @@ class GithubAuthenticationManager implements AuthenticationManager {
 			return false;
 		}
 		catch (HttpClientErrorException.NotFound notFound) {
+			stop(sample, "NOT_FOUND", notFound.getRawStatusCode());
 			logger.debug("Membership not found, maybe privacy restrictions are in place");
 			return false;
 		}
+		catch (HttpStatusCodeException ex) {
+			stop(sample, "ERROR", ex.getRawStatusCode());
+			throw ex;
+		}
+		catch (RestClientException ex) {
+			stop(sample, (ex.getRootCause() instanceof InterruptedIOException) ? "TIMEOUT" : "ERROR", null);
+			throw ex;
+		}
+	}
+
+	private void stop(Timer.Sample sample, String outcome, Integer status) {
+		sample.stop(Timer.builder(MEMBERSHIP_REQUESTS).tag("outcome", outcome)
+				.tag("status", (status != null) ? String.valueOf(status) : "NONE").publishPercentileHistogram()
+				.register(this.meterRegistry));
 	}
 
 }
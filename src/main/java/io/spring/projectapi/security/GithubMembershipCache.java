@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.BooleanSupplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+/**
+ * Bounded cache of GitHub team membership decisions. Entries are keyed by a hash of the
+ * username and token so that credentials are not held in memory. Decisions that the
+ * user is a member and that they are not a member have separate time to live so that
+ * revoked access and newly granted access are both picked up quickly. Failed lookups
+ * are not cached.
+ *
+ * @author Phillip Webb
+ */
+class GithubMembershipCache {
+
+	private final Cache<String, Boolean> decisions;
+
+	GithubMembershipCache(long maximumSize, Duration memberTtl, Duration nonMemberTtl) {
+		this(maximumSize, memberTtl, nonMemberTtl, Ticker.systemTicker());
+	}
+
+	GithubMembershipCache(long maximumSize, Duration memberTtl, Duration nonMemberTtl, Ticker ticker) {
+		this.decisions = Caffeine.newBuilder().maximumSize(maximumSize)
+				.expireAfter(new DecisionExpiry(memberTtl, nonMemberTtl)).ticker(ticker).build();
+	}
+
+	/**
+	 * Return whether the user is a team member, performing the given lookup if no
+	 * decision is cached.
+	 * @param username the username
+	 * @param token the token
+	 * @param lookup the lookup to perform
+	 * @return {@code true} if the user is a team member
+	 */
+	boolean isMember(String username, String token, BooleanSupplier lookup) {
+		return this.decisions.get(key(username, token), (key) -> lookup.getAsBoolean());
+	}
+
+	private String key(String username, String token) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(username.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			digest.update(token.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest.digest());
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * {@link Expiry} that applies a time to live based on the decision.
+	 */
+	private static final class DecisionExpiry implements Expiry<String, Boolean> {
+
+		private final long memberTtl;
+
+		private final long nonMemberTtl;
+
+		DecisionExpiry(Duration memberTtl, Duration nonMemberTtl) {
+			this.memberTtl = memberTtl.toNanos();
+			this.nonMemberTtl = nonMemberTtl.toNanos();
+		}
+
+		@Override
+		public long expireAfterCreate(String key, Boolean member, long currentTime) {
+			return (member) ? this.memberTtl : this.nonMemberTtl;
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Boolean member, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, member, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, Boolean member, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+
+	}
+
+}
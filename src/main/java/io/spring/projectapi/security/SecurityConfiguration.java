@@ -18,9 +18,13 @@ package io.spring.projectapi.security;
 
 import javax.servlet.http.HttpServletRequest;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.spring.projectapi.ApplicationProperties;
 import io.spring.projectapi.ApplicationProperties.Github;
+import io.spring.projectapi.ApplicationProperties.Github.MembershipCache;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -30,29 +34,41 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.SecurityFilterChain;
 
 /**
- * Security configuration. Allows public access to all GET endpoints. All other endpoints
- * require basic authentication with a Github token. The configured
- * {@link AuthenticationManager} expects requests that are similar to
- * {@code curl -u username:token https://api.spring.io/}.
+ * Security configuration. Allows public access to all GET endpoints apart from actuator
+ * endpoints, where only health is public. Contentful webhooks must provide a shared
+ * secret. All other endpoints require basic authentication with a
+ * Github token. The configured {@link AuthenticationManager} expects requests that are
+ * similar to {@code curl -u username:token https://api.spring.io/}.
  *
  * @author Madhura Bhave
  * @see GithubAuthenticationManager
+ * @see WebhookSecretAuthorizationManager
  */
 @Configuration(proxyBeanMethods = false)
 public class SecurityConfiguration {
 
 	@Bean
 	public SecurityFilterChain configure(HttpSecurity http, RestTemplateBuilder restTemplateBuilder,
-			ApplicationProperties properties) throws Exception {
+			ApplicationProperties properties, ObjectProvider<MeterRegistry> meterRegistry) throws Exception {
 		http.csrf().disable();
 		http.requiresChannel((channel) -> channel.requestMatchers(this::hasXForwardedPortHeader).requiresSecure());
+		String webhookSecret = properties.getContentful().getWebhookSecret();
 		http.authorizeHttpRequests((requests) -> {
+			requests.antMatchers(HttpMethod.GET, "/actuator/health", "/actuator/health/**").permitAll();
+			requests.antMatchers("/actuator/**").hasRole("ADMIN");
 			requests.mvcMatchers(HttpMethod.GET, "/**").permitAll();
+			requests.mvcMatchers(HttpMethod.POST, "/webhooks/contentful")
+					.access(new WebhookSecretAuthorizationManager(webhookSecret));
 			requests.anyRequest().hasRole("ADMIN");
 		});
 		Github github = properties.getGithub();
-		http.authenticationManager(
-				new GithubAuthenticationManager(restTemplateBuilder, github.getOrg(), github.getTeam()));
+		MembershipCache cache = github.getMembershipCache();
+		GithubMembershipCache membershipCache = (cache.isEnabled())
+				? new GithubMembershipCache(cache.getMaximumSize(), cache.getMemberTtl(), cache.getNonMemberTtl())
+				: null;
+		http.authenticationManager(new GithubAuthenticationManager(restTemplateBuilder, github.getApiUrl(),
+				github.getOrg(), github.getTeam(), meterRegistry.getIfAvailable(SimpleMeterRegistry::new),
+				membershipCache));
 		http.httpBasic();
 		return http.build();
 	}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link AuthorizationManager} that grants access to webhook requests that carry the
+ * configured shared secret in the {@value #SECRET_HEADER} header. Access is always denied
+ * when no secret has been configured.
+ *
+ * @author Phillip Webb
+ */
+class WebhookSecretAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+	static final String SECRET_HEADER = "X-Webhook-Secret";
+
+	private final byte[] secret;
+
+	WebhookSecretAuthorizationManager(String secret) {
+		this.secret = (StringUtils.hasText(secret)) ? secret.getBytes(StandardCharsets.UTF_8) : null;
+	}
+
+	@Override
+	public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+		String candidate = context.getRequest().getHeader(SECRET_HEADER);
+		return new AuthorizationDecision(isValid(candidate));
+	}
+
+	private boolean isValid(String candidate) {
+		if (this.secret == null || candidate == null) {
+			return false;
+		}
+		return MessageDigest.isEqual(this.secret, candidate.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
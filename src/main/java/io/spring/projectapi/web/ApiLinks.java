@@ -0,0 +1,111 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.hateoas.Link;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Factory for the links exposed by the API. The base URI is resolved once from the
+ * current request, so forwarded headers are honored in the same way as
+ * {@code WebMvcLinkBuilder}, and each link is then built by appending encoded path
+ * segments rather than by invoking a controller proxy and expanding a URI template.
+ *
+ * @author Phillip Webb
+ */
+public final class ApiLinks {
+
+	private final String baseUri;
+
+	private ApiLinks(String baseUri) {
+		this.baseUri = baseUri;
+	}
+
+	/**
+	 * Return {@link ApiLinks} for the current request. Must be called from the thread
+	 * handling the request.
+	 * @return links for the current request
+	 */
+	public static ApiLinks forCurrentRequest() {
+		return of(ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString());
+	}
+
+	/**
+	 * Return {@link ApiLinks} for the given base URI.
+	 * @param baseUri the base URI of the API
+	 * @return links for the base URI
+	 */
+	public static ApiLinks of(String baseUri) {
+		return new ApiLinks((baseUri.endsWith("/")) ? baseUri.substring(0, baseUri.length() - 1) : baseUri);
+	}
+
+	public Link projectTemplate() {
+		return link("/projects/{id}");
+	}
+
+	public Link project(String id) {
+		return link("/projects/", id);
+	}
+
+	public Link releases(String id) {
+		return link("/projects/", id, "/releases");
+	}
+
+	public Link release(String id, String version) {
+		return link("/projects/", id, "/releases/", version);
+	}
+
+	public Link currentRelease(String id) {
+		return link("/projects/", id, "/releases/current");
+	}
+
+	public Link generations(String id) {
+		return link("/projects/", id, "/generations");
+	}
+
+	public Link generation(String id, String name) {
+		return link("/projects/", id, "/generations/", name);
+	}
+
+	public Link repository(String id) {
+		return link("/repositories/", id);
+	}
+
+	private Link link(String path) {
+		return Link.of(this.baseUri + path);
+	}
+
+	private Link link(String path, String segment) {
+		return Link.of(this.baseUri + path + encode(segment));
+	}
+
+	private Link link(String path, String segment, String suffix) {
+		return Link.of(this.baseUri + path + encode(segment) + suffix);
+	}
+
+	private Link link(String path, String segment, String infix, String lastSegment) {
+		return Link.of(this.baseUri + path + encode(segment) + infix + encode(lastSegment));
+	}
+
+	private String encode(String segment) {
+		return UriUtils.encodePathSegment(segment, StandardCharsets.UTF_8);
+	}
+
+}
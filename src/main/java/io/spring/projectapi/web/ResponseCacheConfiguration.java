@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import io.spring.projectapi.ApplicationProperties;
+import io.spring.projectapi.ApplicationProperties.Contentful;
+import io.spring.projectapi.contentful.ReactiveContentfulService;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the {@link ResponseCacheFilter}. Only project and repository
+ * resources are cached and only for as long as the data they were rendered from is
+ * considered fresh.
+ *
+ * @author Phillip Webb
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "projects.response-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseCacheConfiguration {
+
+	@Bean
+	public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(
+			ReactiveContentfulService contentfulService, ApplicationProperties properties) {
+		ResponseCacheFilter filter = new ResponseCacheFilter(contentfulService::getVersion,
+				properties.getResponseCache().getMaximumSize(), getTimeToLive(properties.getContentful()));
+		FilterRegistrationBean<ResponseCacheFilter> registration = new FilterRegistrationBean<>(filter);
+		registration.addUrlPatterns("/projects/*", "/releases/*", "/repositories/*");
+		return registration;
+	}
+
+	private Duration getTimeToLive(Contentful contentful) {
+		if (contentful.getCatalog().isEnabled()) {
+			return contentful.getCatalog().getRefreshInterval();
+		}
+		Contentful.Cache cache = contentful.getCache();
+		return Stream.of(cache.getProjectsTtl(), cache.getProjectTtl(), cache.getProjectDocumentationsTtl(),
+				cache.getProjectSupportsTtl()).min(Duration::compareTo).get();
+	}
+
+}
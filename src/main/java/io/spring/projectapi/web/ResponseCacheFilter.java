@@ -0,0 +1,244 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * Filter that caches fully rendered {@code GET} responses, along with a gzip compressed
+ * variant, so that requests for unchanged data are served without invoking the
+ * controller or serializing the response. Responses are cached per URL, {@code Accept}
+ * header and data version. All cached responses are discarded when the data version
+ * changes, which only happens when the underlying data has changed, so loading or
+ * expiring unrelated data keeps them. Since the data version only changes once the data
+ * is read, responses are also discarded when they are older than the time to live so
+ * that requests eventually reach the controller and trigger a reload of stale data.
+ *
+ * @author Phillip Webb
+ */
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+	private static final String KEY_ATTRIBUTE = ResponseCacheFilter.class.getName() + ".KEY";
+
+	private static final List<String> FORWARDED_HEADERS = List.of("Forwarded", "X-Forwarded-Host",
+			"X-Forwarded-Port", "X-Forwarded-Proto", "X-Forwarded-Prefix");
+
+	private final Supplier<String> version;
+
+	private final Cache<Key, CachedResponse> cache;
+
+	private final AtomicReference<String> cachedVersion = new AtomicReference<>();
+
+	/**
+	 * Create a new {@link ResponseCacheFilter} instance.
+	 * @param version supplies the current version of the data that responses are
+	 * rendered from or {@code null} if responses cannot be cached
+	 * @param maximumSize the maximum size of all cached responses
+	 * @param timeToLive the maximum time that a response is cached
+	 */
+	public ResponseCacheFilter(Supplier<String> version, DataSize maximumSize, Duration timeToLive) {
+		this(version, maximumSize, timeToLive, Ticker.systemTicker());
+	}
+
+	ResponseCacheFilter(Supplier<String> version, DataSize maximumSize, Duration timeToLive, Ticker ticker) {
+		this.version = version;
+		this.cache = Caffeine.newBuilder().maximumWeight(maximumSize.toBytes())
+				.weigher((Key key, CachedResponse response) -> response.size()).expireAfterWrite(timeToLive)
+				.ticker(ticker).build();
+	}
+
+	@Override
+	protected boolean shouldNotFilterAsyncDispatch() {
+		return false;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		ContentCachingResponseWrapper wrapper = WebUtils.getNativeResponse(response,
+				ContentCachingResponseWrapper.class);
+		HttpServletResponse responseToUse = response;
+		if (wrapper == null) {
+			Key key = (!isAsyncDispatch(request)) ? getKey(request) : null;
+			if (key == null) {
+				filterChain.doFilter(request, response);
+				return;
+			}
+			CachedResponse cached = this.cache.getIfPresent(key);
+			if (cached != null) {
+				cached.writeTo(request, response);
+				return;
+			}
+			request.setAttribute(KEY_ATTRIBUTE, key);
+			wrapper = new ContentCachingResponseWrapper(response);
+			responseToUse = wrapper;
+		}
+		try {
+			filterChain.doFilter(request, responseToUse);
+		}
+		finally {
+			if (!isAsyncStarted(request)) {
+				complete(request, wrapper);
+			}
+		}
+	}
+
+	private Key getKey(HttpServletRequest request) {
+		if (!HttpMethod.GET.matches(request.getMethod())) {
+			return null;
+		}
+		String version = this.version.get();
+		if (version == null) {
+			return null;
+		}
+		String previousVersion = this.cachedVersion.getAndSet(version);
+		if (previousVersion != null && !previousVersion.equals(version)) {
+			this.cache.invalidateAll();
+		}
+		StringBuilder url = new StringBuilder(request.getRequestURL());
+		if (request.getQueryString() != null) {
+			url.append('?').append(request.getQueryString());
+		}
+		StringBuilder forwarded = new StringBuilder();
+		for (String name : FORWARDED_HEADERS) {
+			for (String value : Collections.list(request.getHeaders(name))) {
+				forwarded.append(name).append('=').append(value).append(';');
+			}
+		}
+		return new Key(version, url.toString(), request.getHeader(HttpHeaders.ACCEPT), forwarded.toString());
+	}
+
+	private void complete(HttpServletRequest request, ContentCachingResponseWrapper wrapper) throws IOException {
+		Key key = (Key) request.getAttribute(KEY_ATTRIBUTE);
+		if (wrapper.getStatus() != HttpServletResponse.SC_OK || wrapper.getContentType() == null) {
+			wrapper.copyBodyToResponse();
+			return;
+		}
+		CachedResponse cached = new CachedResponse(wrapper.getContentType(), wrapper.getHeader(HttpHeaders.ETAG),
+				wrapper.getContentAsByteArray());
+		this.cache.put(key, cached);
+		cached.writeTo(request, (HttpServletResponse) wrapper.getResponse());
+	}
+
+	/**
+	 * Key used to cache a response.
+	 */
+	private record Key(String version, String url, String accept, String forwarded) {
+
+	}
+
+	/**
+	 * A cached response along with its gzip compressed variant, if smaller.
+	 */
+	private static final class CachedResponse {
+
+		private final String contentType;
+
+		private final String entityTag;
+
+		private final byte[] body;
+
+		private final byte[] gzipBody;
+
+		CachedResponse(String contentType, String entityTag, byte[] body) {
+			this.contentType = contentType;
+			this.entityTag = entityTag;
+			this.body = body;
+			byte[] gzipBody = gzip(body);
+			this.gzipBody = (gzipBody.length < body.length) ? gzipBody : null;
+		}
+
+		private static byte[] gzip(byte[] body) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+			try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+				gzip.write(body);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+			return out.toByteArray();
+		}
+
+		int size() {
+			return this.body.length + ((this.gzipBody != null) ? this.gzipBody.length : 0);
+		}
+
+		void writeTo(HttpServletRequest request, HttpServletResponse response) throws IOException {
+			boolean gzip = this.gzipBody != null && acceptsGzip(request);
+			response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+			if (this.entityTag != null) {
+				// Each encoding is a different representation so needs its own tag
+				String entityTag = (gzip) ? gzipEntityTag(this.entityTag) : this.entityTag;
+				response.setHeader(HttpHeaders.ETAG, entityTag);
+				if (new ServletWebRequest(request, response).checkNotModified(entityTag)) {
+					return;
+				}
+			}
+			byte[] body = (gzip) ? this.gzipBody : this.body;
+			response.setContentType(this.contentType);
+			if (gzip) {
+				response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+			}
+			response.setContentLength(body.length);
+			response.getOutputStream().write(body);
+		}
+
+		private String gzipEntityTag(String entityTag) {
+			return (entityTag.endsWith("\"")) ? entityTag.substring(0, entityTag.length() - 1) + "-gzip\""
+					: entityTag + "-gzip";
+		}
+
+		private boolean acceptsGzip(HttpServletRequest request) {
+			for (String value : Collections.list(request.getHeaders(HttpHeaders.ACCEPT_ENCODING))) {
+				for (String coding : value.split(",")) {
+					String[] parts = coding.split(";");
+					if (parts[0].trim().equalsIgnoreCase("gzip")) {
+						return parts.length == 1 || !parts[1].trim().matches("q\\s*=\\s*0(\\.0*)?");
+					}
+				}
+			}
+			return false;
+		}
+
+	}
+
+}
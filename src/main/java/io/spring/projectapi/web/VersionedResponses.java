@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web;
+
+import io.spring.projectapi.contentful.ReactiveContentfulService;
+import reactor.core.publisher.Mono;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.ResponseEntity.BodyBuilder;
+
+/**
+ * Factory for responses that use the {@link ReactiveContentfulService#getVersion() data
+ * version} as their entity tag so that conditional {@code GET} requests can be answered
+ * with {@code 304 Not Modified}. The body is always loaded before the version is
+ * compared so that reading it can trigger a refresh of stale data and so that missing
+ * resources are reported rather than treated as unmodified.
+ *
+ * @author Phillip Webb
+ */
+public final class VersionedResponses {
+
+	private VersionedResponses() {
+	}
+
+	/**
+	 * Return a response for the given body tagged with the current data version.
+	 * @param <T> the body type
+	 * @param contentfulService the service that provides the data version
+	 * @param body the body of the response
+	 * @return the response
+	 */
+	public static <T> Mono<ResponseEntity<T>> of(ReactiveContentfulService contentfulService, Mono<T> body) {
+		return Mono.defer(() -> {
+			String version = contentfulService.getVersion();
+			return body.map((content) -> ok(version, contentfulService.getVersion(), content));
+		});
+	}
+
+	private static <T> ResponseEntity<T> ok(String versionBefore, String versionAfter, T body) {
+		BodyBuilder builder = ResponseEntity.ok();
+		// When the data changed during loading the body may belong to either version
+		if (versionAfter != null && versionAfter.equals(versionBefore)) {
+			builder.eTag(versionAfter);
+		}
+		return builder.body(body);
+	}
+
+}
@@ -16,6 +16,7 @@
 
 package io.spring.projectapi.web.error;
 
+import io.spring.projectapi.contentful.DocumentationAlreadyPresentException;
 import io.spring.projectapi.contentful.NoSuchContentfulProjectException;
 import io.spring.projectapi.contentful.NoUniqueContentfulProjectException;
 
@@ -44,4 +45,9 @@ public class ExceptionAdvice {
 		return NOT_FOUND;
 	}
 
+	@ExceptionHandler
+	private ResponseEntity<?> documentationAlreadyPresentExceptionHandler(DocumentationAlreadyPresentException ex) {
+		return ResponseEntity.badRequest().body(ex.getMessage());
+	}
+
 }
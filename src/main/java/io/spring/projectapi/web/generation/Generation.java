@@ -20,6 +20,7 @@ import java.time.LocalDate;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import io.spring.projectapi.contentful.ProjectSupport;
 
 import org.springframework.hateoas.server.core.Relation;
 
@@ -52,6 +53,16 @@ public class Generation {
 		this.commercialSupportEndDate = commercialSupportEndDate;
 	}
 
+	/**
+	 * Create a new {@link Generation} from the given project support.
+	 * @param support the project support
+	 * @return a new generation instance
+	 */
+	public static Generation of(ProjectSupport support) {
+		return new Generation(support.getBranch(), support.getInitialDate(), support.getOssPolicyEnd(),
+				support.getCommercialPolicyEnd());
+	}
+
 	public String getName() {
 		return this.name;
 	}
@@ -18,24 +18,23 @@ package io.spring.projectapi.web.generation;
 
 import java.util.List;
 
-import io.spring.projectapi.contentful.ContentfulService;
-import io.spring.projectapi.contentful.ProjectSupport;
+import io.spring.projectapi.contentful.ReactiveContentfulService;
+import io.spring.projectapi.web.ApiLinks;
+import io.spring.projectapi.web.VersionedResponses;
 import io.spring.projectapi.web.error.ResourceNotFoundException;
-import io.spring.projectapi.web.project.ProjectsController;
+import reactor.core.publisher.Mono;
 
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.server.ExposesResourceFor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 /**
  * MVC controller for project generations API.
  *
@@ -47,48 +46,58 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 @ExposesResourceFor(Generation.class)
 public class GenerationsController {
 
-	private final ContentfulService contentfulService;
+	private final ReactiveContentfulService contentfulService;
 
-	public GenerationsController(ContentfulService contentfulService) {
+	public GenerationsController(ReactiveContentfulService contentfulService) {
 		this.contentfulService = contentfulService;
 	}
 
 	@GetMapping
-	public CollectionModel<EntityModel<Generation>> generations(@PathVariable String id) {
-		List<ProjectSupport> supports = this.contentfulService.getProjectSupports(id);
-		List<Generation> generations = supports.stream().map(this::asGeneration).toList();
-		CollectionModel<EntityModel<Generation>> model = CollectionModel
-				.of(generations.stream().map((generation) -> asModel(id, generation)).toList());
-		model.add(linkToProject(id));
-		return model;
+	public Mono<ResponseEntity<CollectionModel<EntityModel<Generation>>>> generations(@PathVariable String id) {
+		ApiLinks links = ApiLinks.forCurrentRequest();
+		return VersionedResponses.of(this.contentfulService,
+				this.contentfulService.getProjectSupports(id).map(Generation::of).collectList()
+						.map((generations) -> asCollectionModel(links, id, generations)));
 	}
 
 	@GetMapping("/{name}")
-	public EntityModel<Generation> generation(@PathVariable String id, @PathVariable String name) {
-		List<ProjectSupport> supports = this.contentfulService.getProjectSupports(id);
-		List<Generation> generations = supports.stream().map(this::asGeneration).toList();
-		Generation generation = generations.stream().filter((candidate) -> candidate.getName().equals(name)).findFirst()
-				.orElseThrow(() -> new ResourceNotFoundException(
-						"Generation '%s' cannot be found for project '%s'".formatted(name, id)));
-		return asModel(id, generation);
+	public Mono<ResponseEntity<EntityModel<Generation>>> generation(@PathVariable String id,
+			@PathVariable String name) {
+		ApiLinks links = ApiLinks.forCurrentRequest();
+		return VersionedResponses.of(this.contentfulService,
+				this.contentfulService.getProjectSupports(id).map(Generation::of)
+						.filter((candidate) -> candidate.getName().equals(name)).next()
+						.switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(
+								"Generation '%s' cannot be found for project '%s'".formatted(name, id))))
+						.map((generation) -> asModel(links, id, generation)));
 	}
 
-	private Generation asGeneration(ProjectSupport support) {
-		return new Generation(support.getBranch(), support.getInitialDate(), support.getOssPolicyEnd(),
-				support.getCommercialPolicyEnd());
+	private CollectionModel<EntityModel<Generation>> asCollectionModel(ApiLinks links, String id,
+			List<Generation> generations) {
+		CollectionModel<EntityModel<Generation>> model = CollectionModel
+				.of(generations.stream().map((generation) -> asModel(links, id, generation)).toList());
+		model.add(linkToProject(links, id));
+		return model;
 	}
 
-	private EntityModel<Generation> asModel(String id, Generation generation) {
+	/**
+	 * Return the model for a generation of the given project. Used for both standalone
+	 * and embedded generations so that their links are the same.
+	 * @param links the API links
+	 * @param id the project ID
+	 * @param generation the generation
+	 * @return the generation model
+	 */
+	public static EntityModel<Generation> asModel(ApiLinks links, String id, Generation generation) {
 		EntityModel<Generation> model = EntityModel.of(generation);
-		Link linkToSelf = linkTo(methodOn(GenerationsController.class).generation(id, generation.getName()))
-				.withSelfRel();
+		Link linkToSelf = links.generation(id, generation.getName()).withSelfRel();
 		model.add(linkToSelf);
-		model.add(linkToProject(id));
+		model.add(linkToProject(links, id));
 		return model;
 	}
 
-	private Link linkToProject(String id) {
-		return linkTo(methodOn(ProjectsController.class).project(id)).withRel("project");
+	private static Link linkToProject(ApiLinks links, String id) {
+		return links.project(id).withRel("project");
 	}
 
 }
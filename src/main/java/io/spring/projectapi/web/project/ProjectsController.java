@@ -16,27 +16,40 @@
 
 package io.spring.projectapi.web.project;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
-import io.spring.projectapi.contentful.ContentfulService;
+import io.spring.projectapi.contentful.ProjectDocumentation;
+import io.spring.projectapi.contentful.ProjectDocumentationIndex;
+import io.spring.projectapi.contentful.ProjectSupport;
+import io.spring.projectapi.contentful.ReactiveContentfulService;
+import io.spring.projectapi.web.ApiLinks;
+import io.spring.projectapi.web.VersionedResponses;
+import io.spring.projectapi.web.generation.Generation;
 import io.spring.projectapi.web.generation.GenerationsController;
 import io.spring.projectapi.web.project.Project.Status;
+import io.spring.projectapi.web.release.Release;
 import io.spring.projectapi.web.release.ReleasesController;
+import reactor.core.publisher.Mono;
 
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.Links;
 import org.springframework.hateoas.MediaTypes;
-import org.springframework.hateoas.server.EntityLinks;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.mediatype.hal.HalModelBuilder;
 import org.springframework.hateoas.server.ExposesResourceFor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 /**
  * MVC controller for projects API.
  *
@@ -48,28 +61,47 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 @ExposesResourceFor(Project.class)
 public class ProjectsController {
 
-	private final ContentfulService contentfulService;
+	private static final String RELEASES = "releases";
+
+	private static final String GENERATIONS = "generations";
+
+	private static final Set<String> EMBEDDABLE = Set.of(RELEASES, GENERATIONS);
 
-	private final EntityLinks entityLinks;
+	private final ReactiveContentfulService contentfulService;
 
-	public ProjectsController(ContentfulService contentfulService, EntityLinks entityLinks) {
+	public ProjectsController(ReactiveContentfulService contentfulService) {
 		this.contentfulService = contentfulService;
-		this.entityLinks = entityLinks;
 	}
 
 	@GetMapping
-	public CollectionModel<EntityModel<Project>> projects() {
-		List<Project> projects = this.contentfulService.getProjects().stream().map(this::asProject).toList();
-		CollectionModel<EntityModel<Project>> collection = CollectionModel
-				.of(projects.stream().map(this::asModel).toList());
-		collection.add(linkTo(methodOn(ProjectsController.class).project(null)).withRel("project"));
-		return collection;
+	public Mono<ResponseEntity<RepresentationModel<?>>> projects(@RequestParam(required = false) Set<String> embed) {
+		Set<String> embedded = (embed != null) ? embed : Collections.emptySet();
+		for (String name : embedded) {
+			if (!EMBEDDABLE.contains(name)) {
+				throw new InvalidProjectQueryException("Cannot embed '%s'".formatted(name));
+			}
+		}
+		ApiLinks links = ApiLinks.forCurrentRequest();
+		Mono<List<Project>> projects = this.contentfulService.getProjects().map(this::asProject).collectList();
+		if (embedded.isEmpty()) {
+			return VersionedResponses.of(this.contentfulService,
+					projects.<RepresentationModel<?>>map((list) -> asCollectionModel(links, list)));
+		}
+		Mono<Map<String, ProjectDocumentationIndex>> releases = (embedded.contains(RELEASES))
+				? this.contentfulService.getProjectDocumentationIndexes() : Mono.just(Collections.emptyMap());
+		Mono<Map<String, List<ProjectSupport>>> generations = (embedded.contains(GENERATIONS))
+				? this.contentfulService.getAllProjectSupports() : Mono.just(Collections.emptyMap());
+		return VersionedResponses.of(this.contentfulService,
+				Mono.zip(projects, releases, generations).map((tuple) -> asEmbeddingModel(links, tuple.getT1(),
+						(embedded.contains(RELEASES)) ? tuple.getT2() : null,
+						(embedded.contains(GENERATIONS)) ? tuple.getT3() : null)));
 	}
 
 	@GetMapping("/{id}")
-	public EntityModel<Project> project(@PathVariable String id) {
-		Project project = asProject(this.contentfulService.getProject(id));
-		return asModel(project);
+	public Mono<ResponseEntity<EntityModel<Project>>> project(@PathVariable String id) {
+		ApiLinks links = ApiLinks.forCurrentRequest();
+		return VersionedResponses.of(this.contentfulService,
+				this.contentfulService.getProject(id).map(this::asProject).map((project) -> asModel(links, project)));
 	}
 
 	private Project asProject(io.spring.projectapi.contentful.Project project) {
@@ -77,14 +109,53 @@ public class ProjectsController {
 		return new Project(project.getTitle(), project.getSlug(), project.getGithub(), status);
 	}
 
-	private EntityModel<Project> asModel(Project project) {
-		EntityModel<Project> model = EntityModel.of(project);
+	private CollectionModel<EntityModel<Project>> asCollectionModel(ApiLinks links, List<Project> projects) {
+		CollectionModel<EntityModel<Project>> collection = CollectionModel
+				.of(projects.stream().map((project) -> asModel(links, project)).toList());
+		collection.add(links.projectTemplate().withRel("project"));
+		return collection;
+	}
+
+	private RepresentationModel<?> asEmbeddingModel(ApiLinks links, List<Project> projects,
+			Map<String, ProjectDocumentationIndex> releases, Map<String, List<ProjectSupport>> generations) {
+		List<RepresentationModel<?>> models = projects.stream()
+				.map((project) -> asEmbeddingModel(links, project, releases, generations)).toList();
+		return HalModelBuilder.emptyHalModel().embed(models, LinkRelation.of("projects"))
+				.link(links.projectTemplate().withRel("project")).build();
+	}
+
+	private RepresentationModel<?> asEmbeddingModel(ApiLinks links, Project project,
+			Map<String, ProjectDocumentationIndex> releases, Map<String, List<ProjectSupport>> generations) {
 		String id = project.getId();
-		Link linkToReleases = linkTo(methodOn(ReleasesController.class).releases(id)).withRel("releases");
-		Link linkToGenerations = linkTo(methodOn(GenerationsController.class).generations(id)).withRel("generations");
-		Link linkToSelf = this.entityLinks.linkToItemResource(Project.class, id).withSelfRel();
-		model.add(linkToReleases, linkToGenerations, linkToSelf);
+		HalModelBuilder builder = HalModelBuilder.halModelOf(project).links(linksFor(links, id));
+		if (releases != null) {
+			ProjectDocumentationIndex index = releases.get(id);
+			List<ProjectDocumentation> documentations = (index != null) ? index.getDocumentations()
+					: Collections.emptyList();
+			List<EntityModel<Release>> releaseModels = documentations.stream()
+					.map((documentation) -> ReleasesController.asModel(links, id, Release.of(documentation))).toList();
+			builder = builder.embed(releaseModels, LinkRelation.of(RELEASES));
+		}
+		if (generations != null) {
+			List<ProjectSupport> supports = generations.getOrDefault(id, Collections.emptyList());
+			List<EntityModel<Generation>> generationModels = supports.stream()
+					.map((support) -> GenerationsController.asModel(links, id, Generation.of(support))).toList();
+			builder = builder.embed(generationModels, LinkRelation.of(GENERATIONS));
+		}
+		return builder.build();
+	}
+
+	private EntityModel<Project> asModel(ApiLinks links, Project project) {
+		EntityModel<Project> model = EntityModel.of(project);
+		model.add(linksFor(links, project.getId()));
 		return model;
 	}
 
+	private Links linksFor(ApiLinks links, String id) {
+		Link linkToReleases = links.releases(id).withRel("releases");
+		Link linkToGenerations = links.generations(id).withRel("generations");
+		Link linkToSelf = links.project(id).withSelfRel();
+		return Links.of(linkToReleases, linkToGenerations, linkToSelf);
+	}
+
 }
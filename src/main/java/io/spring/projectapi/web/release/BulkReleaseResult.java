@@ -0,0 +1,87 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.release;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+/**
+ * Representation of the result of publishing releases for a single project as part of
+ * a bulk request.
+ *
+ * @author Phillip Webb
+ */
+@JsonInclude(Include.NON_NULL)
+public class BulkReleaseResult {
+
+	private final String project;
+
+	private final Outcome outcome;
+
+	private final String message;
+
+	public BulkReleaseResult(String project, Outcome outcome, String message) {
+		this.project = project;
+		this.outcome = outcome;
+		this.message = message;
+	}
+
+	public String getProject() {
+		return this.project;
+	}
+
+	public Outcome getOutcome() {
+		return this.outcome;
+	}
+
+	public String getMessage() {
+		return this.message;
+	}
+
+	/**
+	 * Outcome of publishing releases for a project.
+	 */
+	public enum Outcome {
+
+		/**
+		 * All releases were added.
+		 */
+		CREATED,
+
+		/**
+		 * The releases in the request were invalid so nothing was added.
+		 */
+		INVALID,
+
+		/**
+		 * The project does not exist.
+		 */
+		NOT_FOUND,
+
+		/**
+		 * One or more releases are already present so nothing was added.
+		 */
+		ALREADY_PRESENT,
+
+		/**
+		 * The project could not be updated.
+		 */
+		FAILED
+
+	}
+
+}
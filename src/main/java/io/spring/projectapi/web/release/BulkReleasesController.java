@@ -0,0 +1,105 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.release;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.spring.projectapi.contentful.ContentfulService;
+import io.spring.projectapi.contentful.DocumentationUpdateResult;
+import io.spring.projectapi.contentful.ProjectDocumentation;
+import io.spring.projectapi.web.release.BulkReleaseResult.Outcome;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * MVC controller for publishing releases of many projects in a single request, for
+ * example when a release train is published.
+ *
+ * @author Phillip Webb
+ */
+@RestController
+@RequestMapping(path = "/releases", produces = MediaType.APPLICATION_JSON_VALUE)
+public class BulkReleasesController {
+
+	private final ContentfulService contentfulService;
+
+	public BulkReleasesController(ContentfulService contentfulService) {
+		this.contentfulService = contentfulService;
+	}
+
+	@PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<List<BulkReleaseResult>> add(@RequestBody Map<String, List<NewRelease>> releases) {
+		Map<String, BulkReleaseResult> results = new HashMap<>();
+		Map<String, List<ProjectDocumentation>> documentations = new LinkedHashMap<>();
+		releases.forEach((id, projectReleases) -> {
+			String invalid = validate(projectReleases);
+			if (invalid != null) {
+				results.put(id, new BulkReleaseResult(id, Outcome.INVALID, invalid));
+				return;
+			}
+			documentations.put(id, projectReleases.stream().map(NewRelease::asProjectDocumentation).toList());
+		});
+		if (!documentations.isEmpty()) {
+			for (DocumentationUpdateResult result : this.contentfulService.addProjectDocumentations(documentations)) {
+				results.put(result.getProjectSlug(), asBulkReleaseResult(result));
+			}
+		}
+		List<BulkReleaseResult> body = releases.keySet().stream().map(results::get).toList();
+		boolean created = body.stream().allMatch((result) -> result.getOutcome() == Outcome.CREATED);
+		return ResponseEntity.status((created) ? HttpStatus.OK : HttpStatus.MULTI_STATUS).body(body);
+	}
+
+	private String validate(List<NewRelease> releases) {
+		if (releases == null || releases.isEmpty()) {
+			return "No releases provided";
+		}
+		Set<String> versions = new HashSet<>();
+		for (NewRelease release : releases) {
+			String version = release.getVersion();
+			if (!StringUtils.hasText(version)) {
+				return "Release version missing";
+			}
+			if (!versions.add(version)) {
+				return "Release '%s' provided more than once".formatted(version);
+			}
+		}
+		return null;
+	}
+
+	private BulkReleaseResult asBulkReleaseResult(DocumentationUpdateResult result) {
+		Outcome outcome = switch (result.getOutcome()) {
+			case UPDATED -> Outcome.CREATED;
+			case NOT_FOUND -> Outcome.NOT_FOUND;
+			case ALREADY_PRESENT -> Outcome.ALREADY_PRESENT;
+			case FAILED -> Outcome.FAILED;
+		};
+		return new BulkReleaseResult(result.getProjectSlug(), outcome, result.getMessage());
+	}
+
+}
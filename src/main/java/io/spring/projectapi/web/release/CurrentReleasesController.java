@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.release;
+
+import java.util.List;
+import java.util.Map;
+
+import io.spring.projectapi.contentful.ProjectDocumentation;
+import io.spring.projectapi.contentful.ProjectDocumentationIndex;
+import io.spring.projectapi.contentful.ReactiveContentfulService;
+import io.spring.projectapi.web.ApiLinks;
+import io.spring.projectapi.web.VersionedResponses;
+import reactor.core.publisher.Mono;
+
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * MVC controller providing the current release of every project in a single request.
+ *
+ * @author Phillip Webb
+ */
+@RestController
+@RequestMapping(path = "/releases/current", produces = MediaTypes.HAL_JSON_VALUE)
+public class CurrentReleasesController {
+
+	private final ReactiveContentfulService contentfulService;
+
+	public CurrentReleasesController(ReactiveContentfulService contentfulService) {
+		this.contentfulService = contentfulService;
+	}
+
+	@GetMapping
+	public Mono<ResponseEntity<CollectionModel<EntityModel<ProjectCurrentRelease>>>> currentReleases(
+			@RequestParam(defaultValue = "false") boolean latest) {
+		ApiLinks links = ApiLinks.forCurrentRequest();
+		return VersionedResponses.of(this.contentfulService, this.contentfulService.getProjectDocumentationIndexes()
+				.map((indexes) -> asCollectionModel(links, indexes, latest)));
+	}
+
+	private CollectionModel<EntityModel<ProjectCurrentRelease>> asCollectionModel(ApiLinks links,
+			Map<String, ProjectDocumentationIndex> indexes, boolean latest) {
+		List<EntityModel<ProjectCurrentRelease>> models = indexes.entrySet().stream()
+				.map((entry) -> asModel(links, entry.getKey(), entry.getValue(), latest)).toList();
+		return CollectionModel.of(models);
+	}
+
+	private EntityModel<ProjectCurrentRelease> asModel(ApiLinks links, String id, ProjectDocumentationIndex index,
+			boolean latest) {
+		Release current = asRelease(index.getCurrent());
+		ProjectCurrentRelease currentRelease = (!latest) ? new ProjectCurrentRelease(id, current, null, null, null)
+				: new ProjectCurrentRelease(id, current,
+						latest(index, ProjectDocumentation.Status.GENERAL_AVAILABILITY),
+						latest(index, ProjectDocumentation.Status.PRERELEASE),
+						latest(index, ProjectDocumentation.Status.SNAPSHOT));
+		EntityModel<ProjectCurrentRelease> model = EntityModel.of(currentRelease);
+		model.add(links.project(id).withRel("project"), links.releases(id).withRel("releases"));
+		if (current != null) {
+			model.add(links.release(id, current.getVersion()).withRel("current"));
+		}
+		return model;
+	}
+
+	private Release latest(ProjectDocumentationIndex index, ProjectDocumentation.Status status) {
+		List<ProjectDocumentation> documentations = index.getDocumentations(status);
+		return (!documentations.isEmpty()) ? asRelease(documentations.get(0)) : null;
+	}
+
+	private Release asRelease(ProjectDocumentation documentation) {
+		return (documentation != null) ? Release.of(documentation) : null;
+	}
+
+}
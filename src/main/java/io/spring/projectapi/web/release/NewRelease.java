@@ -19,6 +19,7 @@ package io.spring.projectapi.web.release;
 import javax.validation.constraints.NotBlank;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import io.spring.projectapi.contentful.ProjectDocumentation;
 import org.hibernate.validator.constraints.URL;
 
 /**
@@ -56,4 +57,14 @@ public class NewRelease {
 		return this.apiDocUrl;
 	}
 
+	/**
+	 * Return a {@link ProjectDocumentation} for this release.
+	 * @return the project documentation
+	 */
+	ProjectDocumentation asProjectDocumentation() {
+		Release.Status status = Release.Status.fromVersion(this.version);
+		return new ProjectDocumentation(this.version, this.apiDocUrl, this.referenceDocUrl,
+				ProjectDocumentation.Status.valueOf(status.name()), status.getRepository().getId(), false);
+	}
+
 }
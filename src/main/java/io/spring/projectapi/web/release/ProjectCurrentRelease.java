@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.release;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import org.springframework.hateoas.server.core.Relation;
+
+/**
+ * Representation of the current release of a project along with, optionally, its latest
+ * release of each status.
+ *
+ * @author Phillip Webb
+ */
+@Relation(collectionRelation = "currentReleases")
+@JsonInclude(Include.NON_NULL)
+public class ProjectCurrentRelease {
+
+	private final String project;
+
+	private final Release current;
+
+	private final Release latestGeneralAvailability;
+
+	private final Release latestPrerelease;
+
+	private final Release latestSnapshot;
+
+	public ProjectCurrentRelease(String project, Release current, Release latestGeneralAvailability,
+			Release latestPrerelease, Release latestSnapshot) {
+		this.project = project;
+		this.current = current;
+		this.latestGeneralAvailability = latestGeneralAvailability;
+		this.latestPrerelease = latestPrerelease;
+		this.latestSnapshot = latestSnapshot;
+	}
+
+	public String getProject() {
+		return this.project;
+	}
+
+	public Release getCurrent() {
+		return this.current;
+	}
+
+	public Release getLatestGeneralAvailability() {
+		return this.latestGeneralAvailability;
+	}
+
+	public Release getLatestPrerelease() {
+		return this.latestPrerelease;
+	}
+
+	public Release getLatestSnapshot() {
+		return this.latestSnapshot;
+	}
+
+}
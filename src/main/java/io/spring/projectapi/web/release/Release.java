@@ -16,7 +16,9 @@
 
 package io.spring.projectapi.web.release;
 
-import java.util.regex.Pattern;
+import io.spring.projectapi.contentful.ProjectDocumentation;
+import io.spring.projectapi.contentful.ReleaseVersion;
+import io.spring.projectapi.web.repository.Repository;
 
 import org.springframework.hateoas.server.core.Relation;
 import org.springframework.util.Assert;
@@ -48,6 +50,17 @@ public class Release {
 		this.apiDocUrl = apiDocUrl;
 	}
 
+	/**
+	 * Create a new {@link Release} from the given project documentation.
+	 * @param documentation the project documentation
+	 * @return a new release instance
+	 */
+	public static Release of(ProjectDocumentation documentation) {
+		Status status = Status.valueOf(documentation.getStatus().name());
+		return new Release(documentation.getVersion(), documentation.getApi(), documentation.getRef(), status,
+				documentation.isCurrent());
+	}
+
 	public String getVersion() {
 		return this.version;
 	}
@@ -88,9 +101,17 @@ public class Release {
 		 */
 		GENERAL_AVAILABILITY;
 
-		private static final Pattern PRERELEASE_PATTERN = Pattern.compile("[A-Za-z0-9\\.\\-]+?(M|RC)\\d+");
-
-		private static final String SNAPSHOT_SUFFIX = "SNAPSHOT";
+		/**
+		 * Return the repository that holds releases with this status.
+		 * @return the repository
+		 */
+		public Repository getRepository() {
+			return switch (this) {
+				case SNAPSHOT -> Repository.SNAPSHOT;
+				case PRERELEASE -> Repository.MILESTONE;
+				case GENERAL_AVAILABILITY -> Repository.RELEASE;
+			};
+		}
 
 		/**
 		 * Deduce the {@link Status status} of a release given its {@code version}.
@@ -99,13 +120,11 @@ public class Release {
 		 */
 		public static Status fromVersion(String version) {
 			Assert.notNull(version, "'version' must not be null");
-			if (version.toString().endsWith(SNAPSHOT_SUFFIX)) {
-				return SNAPSHOT;
-			}
-			if (PRERELEASE_PATTERN.matcher(version).matches()) {
-				return PRERELEASE;
-			}
-			return GENERAL_AVAILABILITY;
+			return switch (ReleaseVersion.parse(version).getType()) {
+				case SNAPSHOT -> SNAPSHOT;
+				case MILESTONE, RELEASE_CANDIDATE -> PRERELEASE;
+				case RELEASE -> GENERAL_AVAILABILITY;
+			};
 		}
 
 	}
@@ -17,35 +17,43 @@
 package io.spring.projectapi.web.release;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import io.spring.projectapi.contentful.ContentfulService;
+import io.spring.projectapi.contentful.DocumentationAlreadyPresentException;
 import io.spring.projectapi.contentful.ProjectDocumentation;
+import io.spring.projectapi.contentful.ProjectDocumentationIndex;
+import io.spring.projectapi.contentful.ReactiveContentfulService;
+import io.spring.projectapi.contentful.ReleaseVersion;
+import io.spring.projectapi.contentful.ReleaseVersionRange;
+import io.spring.projectapi.web.ApiLinks;
+import io.spring.projectapi.web.VersionedResponses;
 import io.spring.projectapi.web.error.ResourceNotFoundException;
-import io.spring.projectapi.web.project.ProjectsController;
 import io.spring.projectapi.web.release.Release.Status;
-import io.spring.projectapi.web.repository.RepositoriesController;
 import io.spring.projectapi.web.repository.Repository;
+import reactor.core.publisher.Mono;
 
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.server.ExposesResourceFor;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 /**
  * MVC controller for project releases API.
  *
@@ -59,89 +67,160 @@ public class ReleasesController {
 
 	private final ContentfulService contentfulService;
 
-	public ReleasesController(ContentfulService contentfulService) {
+	private final ReactiveContentfulService reactiveContentfulService;
+
+	public ReleasesController(ContentfulService contentfulService,
+			ReactiveContentfulService reactiveContentfulService) {
 		this.contentfulService = contentfulService;
+		this.reactiveContentfulService = reactiveContentfulService;
 	}
 
 	@GetMapping
-	public CollectionModel<EntityModel<Release>> releases(@PathVariable String id) {
-		List<ProjectDocumentation> documentations = this.contentfulService.getProjectDocumentations(id);
-		List<Release> releases = documentations.stream().map(this::asRelease).toList();
-		CollectionModel<EntityModel<Release>> model = CollectionModel
-				.of(releases.stream().map((generation) -> asModel(id, generation)).toList());
-		Link linkToProject = WebMvcLinkBuilder.linkTo(methodOn(ProjectsController.class).project(id))
-				.withRel("project");
-		Link linkToCurrent = linkTo(methodOn(ReleasesController.class).current(id)).withRel("current");
-		model.add(linkToProject, linkToCurrent);
-		return model;
+	public Mono<ResponseEntity<CollectionModel<EntityModel<Release>>>> releases(@PathVariable String id,
+			@RequestParam(required = false) String range, @RequestParam(required = false) Status status,
+			@RequestParam(defaultValue = "false") boolean latestPerMinor,
+			@RequestParam(required = false) Integer limit) {
+		ReleaseVersionRange versionRange = parseRange(range);
+		if (limit != null && limit < 1) {
+			throw new InvalidReleaseQueryException("Limit must be greater than zero");
+		}
+		ApiLinks links = ApiLinks.forCurrentRequest();
+		ProjectDocumentation.Status documentationStatus = (status != null)
+				? ProjectDocumentation.Status.valueOf(status.name()) : null;
+		return VersionedResponses.of(this.reactiveContentfulService,
+				this.reactiveContentfulService.getProjectDocumentationIndex(id)
+						.map((index) -> index.getDocumentations(documentationStatus, versionRange))
+						.map((documentations) -> select(documentations, latestPerMinor, limit))
+						.map((releases) -> asCollectionModel(links, id, releases)));
+	}
+
+	private ReleaseVersionRange parseRange(String range) {
+		try {
+			return (range != null) ? ReleaseVersionRange.parse(range) : null;
+		}
+		catch (IllegalArgumentException ex) {
+			throw new InvalidReleaseQueryException(ex.getMessage());
+		}
+	}
+
+	private List<Release> select(List<ProjectDocumentation> documentations, boolean latestPerMinor, Integer limit) {
+		Stream<ProjectDocumentation> selected = documentations.stream();
+		if (latestPerMinor) {
+			Set<String> lines = new HashSet<>();
+			selected = selected.filter((documentation) -> lines.add(getLine(documentation.getReleaseVersion())));
+		}
+		if (limit != null) {
+			selected = selected.limit(limit);
+		}
+		return selected.map(Release::of).toList();
+	}
+
+	private String getLine(ReleaseVersion version) {
+		if (version == null || !version.isNumeric()) {
+			return String.valueOf(version);
+		}
+		return version.getMajor() + "." + version.getMinor();
 	}
 
 	@GetMapping("/{version}")
-	public EntityModel<Release> release(@PathVariable String id, @PathVariable String version) {
-		List<ProjectDocumentation> documentations = this.contentfulService.getProjectDocumentations(id);
-		List<Release> releases = documentations.stream().map(this::asRelease).toList();
-		Release release = releases.stream().filter((candididate) -> candididate.getVersion().equals(version))
-				.findFirst().orElseThrow(() -> new ResourceNotFoundException(
-						"Version '%s' cannot be found for project '%s'".formatted(version, id)));
-		return asModel(id, release);
+	public Mono<ResponseEntity<EntityModel<Release>>> release(@PathVariable String id,
+			@PathVariable String version) {
+		ApiLinks links = ApiLinks.forCurrentRequest();
+		return VersionedResponses.of(this.reactiveContentfulService,
+				this.reactiveContentfulService.getProjectDocumentationIndex(id)
+						.mapNotNull((index) -> index.find(version)).map(Release::of)
+						.switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(
+								"Version '%s' cannot be found for project '%s'".formatted(version, id))))
+						.map((release) -> asModel(links, id, release)));
 	}
 
 	@GetMapping("/current")
-	public EntityModel<Release> current(@PathVariable String id) {
-		this.contentfulService.getProjectDocumentations(id);
-		List<ProjectDocumentation> documentations = this.contentfulService.getProjectDocumentations(id);
-		List<Release> releases = documentations.stream().map(this::asRelease).toList();
-		Release release = releases.stream().filter(Release::isCurrent).findFirst().orElseThrow(
-				() -> new ResourceNotFoundException("Could not find current release for project '%s'".formatted(id)));
-		return asModel(id, release);
+	public Mono<ResponseEntity<EntityModel<Release>>> current(@PathVariable String id) {
+		ApiLinks links = ApiLinks.forCurrentRequest();
+		return VersionedResponses.of(this.reactiveContentfulService,
+				this.reactiveContentfulService.getProjectDocumentationIndex(id)
+						.mapNotNull(ProjectDocumentationIndex::getCurrent).map(Release::of)
+						.switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(
+								"Could not find current release for project '%s'".formatted(id))))
+						.map((release) -> asModel(links, id, release)));
 	}
 
 	@PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
 	public ResponseEntity<String> add(@PathVariable String id, @RequestBody NewRelease release) {
 		String version = release.getVersion();
-		List<ProjectDocumentation> documentations = this.contentfulService.getProjectDocumentations(id);
-		if (documentations.stream().anyMatch((candidate) -> candidate.getVersion().equals(version))) {
-			String message = "Release '%s' already present for project '%s'".formatted(version, id);
-			return ResponseEntity.badRequest().body(message);
+		if (this.contentfulService.getProjectDocumentationIndex(id).contains(version)) {
+			return ResponseEntity.badRequest()
+					.body(DocumentationAlreadyPresentException.getMessage(id, List.of(version)));
 		}
-		Release.Status status = Release.Status.fromVersion(version);
-		Repository repository = getRepository(status);
-		ProjectDocumentation projectDocumentation = new ProjectDocumentation(release.getVersion(),
-				release.getApiDocUrl(), release.getReferenceDocUrl(),
-				ProjectDocumentation.Status.valueOf(status.name()), repository.getId(), false);
-		this.contentfulService.addProjectDocumentation(id, projectDocumentation);
-		URI linkToRelease = linkTo(methodOn(ReleasesController.class).release(id, release.getVersion())).toUri();
+		this.contentfulService.addProjectDocumentation(id, release.asProjectDocumentation());
+		URI linkToRelease = ApiLinks.forCurrentRequest().release(id, release.getVersion()).toUri();
 		return ResponseEntity.created(linkToRelease).build();
 	}
 
+	@PostMapping(path = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<String> addAll(@PathVariable String id, @RequestBody List<NewRelease> releases) {
+		if (releases.isEmpty()) {
+			return ResponseEntity.badRequest().body("No releases provided for project '%s'".formatted(id));
+		}
+		ProjectDocumentationIndex index = this.contentfulService.getProjectDocumentationIndex(id);
+		Set<String> versions = new HashSet<>();
+		List<String> presentVersions = new ArrayList<>();
+		List<ProjectDocumentation> added = new ArrayList<>();
+		for (NewRelease release : releases) {
+			String version = release.getVersion();
+			if (!StringUtils.hasText(version)) {
+				return ResponseEntity.badRequest().body("Release version missing for project '%s'".formatted(id));
+			}
+			if (!versions.add(version)) {
+				String message = "Release '%s' provided more than once for project '%s'".formatted(version, id);
+				return ResponseEntity.badRequest().body(message);
+			}
+			if (index.contains(version)) {
+				presentVersions.add(version);
+			}
+			added.add(release.asProjectDocumentation());
+		}
+		if (!presentVersions.isEmpty()) {
+			return ResponseEntity.badRequest()
+					.body(DocumentationAlreadyPresentException.getMessage(id, presentVersions));
+		}
+		// Contentful may have releases that are not yet visible in the index, in which
+		// case DocumentationAlreadyPresentException is thrown and nothing is added
+		this.contentfulService.addProjectDocumentations(id, added);
+		URI linkToReleases = ApiLinks.forCurrentRequest().releases(id).toUri();
+		return ResponseEntity.created(linkToReleases).build();
+	}
+
 	@DeleteMapping("/{version}")
 	public ResponseEntity<String> delete(@PathVariable String id, @PathVariable String version) {
 		this.contentfulService.deleteDocumentation(id, version);
 		return ResponseEntity.noContent().build();
 	}
 
-	private Release asRelease(ProjectDocumentation documentation) {
-		Release.Status status = Status.valueOf(documentation.getStatus().name());
-		return new Release(documentation.getVersion(), documentation.getApi(), documentation.getRef(), status,
-				documentation.isCurrent());
+	private CollectionModel<EntityModel<Release>> asCollectionModel(ApiLinks links, String id, List<Release> releases) {
+		CollectionModel<EntityModel<Release>> model = CollectionModel
+				.of(releases.stream().map((release) -> asModel(links, id, release)).toList());
+		Link linkToProject = links.project(id).withRel("project");
+		Link linkToCurrent = links.currentRelease(id).withRel("current");
+		model.add(linkToProject, linkToCurrent);
+		return model;
 	}
 
-	private EntityModel<Release> asModel(String id, Release release) {
+	/**
+	 * Return the model for a release of the given project. Used for both standalone and
+	 * embedded releases so that their links are the same.
+	 * @param links the API links
+	 * @param id the project ID
+	 * @param release the release
+	 * @return the release model
+	 */
+	public static EntityModel<Release> asModel(ApiLinks links, String id, Release release) {
 		EntityModel<Release> model = EntityModel.of(release);
-		Repository repository = getRepository(release.getStatus());
-		Link linkToSelf = linkTo(methodOn(ReleasesController.class).release(id, release.getVersion())).withSelfRel();
-		Link linkToRepository = linkTo(methodOn(RepositoriesController.class).repository(repository.getId()))
-				.withRel("repository");
+		Repository repository = release.getStatus().getRepository();
+		Link linkToSelf = links.release(id, release.getVersion()).withSelfRel();
+		Link linkToRepository = links.repository(repository.getId()).withRel("repository");
 		model.add(linkToRepository, linkToSelf);
 		return model;
 	}
 
-	private Repository getRepository(Release.Status status) {
-		return switch (status) {
-			case SNAPSHOT -> Repository.SNAPSHOT;
-			case PRERELEASE -> Repository.MILESTONE;
-			case GENERAL_AVAILABILITY -> Repository.RELEASE;
-		};
-	}
-
 }
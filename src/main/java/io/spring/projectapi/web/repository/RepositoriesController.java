@@ -16,8 +16,10 @@
 
 package io.spring.projectapi.web.repository;
 
+import java.util.Objects;
 import java.util.Optional;
 
+import io.spring.projectapi.web.ApiLinks;
 import io.spring.projectapi.web.error.ResourceNotFoundException;
 
 import org.springframework.hateoas.CollectionModel;
@@ -29,9 +31,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * MVC controller for repositories API.
@@ -44,24 +44,41 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 @ExposesResourceFor(Repository.class)
 public class RepositoriesController {
 
+	/**
+	 * Repositories never change at runtime so their entity tag only has to be calculated
+	 * once.
+	 */
+	private static final String VERSION = Integer.toHexString(Objects.hash(Repository.ALL.stream()
+			.map((repository) -> Objects.hash(repository.getId(), repository.getName(), repository.getUrl(),
+					repository.isSnapshotsEnabled()))
+			.toArray()));
+
 	@GetMapping
-	public CollectionModel<EntityModel<Repository>> repositories() {
-		return CollectionModel.of(Repository.ALL.stream().map(this::asModel).toList());
+	public CollectionModel<EntityModel<Repository>> repositories(WebRequest request) {
+		if (request.checkNotModified(VERSION)) {
+			return null;
+		}
+		ApiLinks links = ApiLinks.forCurrentRequest();
+		return CollectionModel.of(Repository.ALL.stream().map((repository) -> asModel(links, repository)).toList());
 	}
 
 	@GetMapping("/{id}")
-	public EntityModel<Repository> repository(@PathVariable String id) {
-		return asModel(findRepository(id).orElseThrow(
-				() -> new ResourceNotFoundException("No artifact repository found with id '%s'".formatted(id))));
+	public EntityModel<Repository> repository(@PathVariable String id, WebRequest request) {
+		Repository repository = findRepository(id).orElseThrow(
+				() -> new ResourceNotFoundException("No artifact repository found with id '%s'".formatted(id)));
+		if (request.checkNotModified(VERSION)) {
+			return null;
+		}
+		return asModel(ApiLinks.forCurrentRequest(), repository);
 	}
 
 	private Optional<Repository> findRepository(String id) {
 		return Repository.ALL.stream().filter((candidate) -> candidate.getId().equals(id)).findFirst();
 	}
 
-	private EntityModel<Repository> asModel(Repository repository) {
+	private EntityModel<Repository> asModel(ApiLinks links, Repository repository) {
 		EntityModel<Repository> model = EntityModel.of(repository);
-		Link linkToSelf = linkTo(methodOn(RepositoriesController.class).repository(repository.getId())).withSelfRel();
+		Link linkToSelf = links.repository(repository.getId()).withSelfRel();
 		model.add(linkToSelf);
 		return model;
 	}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.webhook;
+
+import io.spring.projectapi.contentful.ContentfulService;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * MVC controller that receives Contentful webhook notifications so that locally held
+ * project data can be refreshed as soon as it changes.
+ *
+ * @author Phillip Webb
+ */
+@RestController
+@RequestMapping(path = "/webhooks/contentful")
+public class ContentfulWebhookController {
+
+	private static final String TOPIC_HEADER = "X-Contentful-Topic";
+
+	private static final String ENTRY_TOPIC_PREFIX = "ContentManagement.Entry.";
+
+	private static final String PROJECT_CONTENT_TYPE = "project";
+
+	private final ContentfulService contentfulService;
+
+	public ContentfulWebhookController(ContentfulService contentfulService) {
+		this.contentfulService = contentfulService;
+	}
+
+	@PostMapping(consumes = { "application/vnd.contentful.management.v1+json", "application/json" })
+	public ResponseEntity<Void> entry(@RequestHeader(TOPIC_HEADER) String topic,
+			@RequestBody EntryNotification notification) {
+		if (topic.startsWith(ENTRY_TOPIC_PREFIX) && isProject(notification) && notification.getEntryId() != null) {
+			this.contentfulService.evictProjectEntry(notification.getEntryId(), notification.getSlug());
+		}
+		return ResponseEntity.noContent().build();
+	}
+
+	private boolean isProject(EntryNotification notification) {
+		String contentType = notification.getContentType();
+		return contentType == null || PROJECT_CONTENT_TYPE.equals(contentType);
+	}
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.webhook;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonCreator.Mode;
+
+/**
+ * The payload of a Contentful entry webhook notification. Only the parts needed to locate
+ * the project are mapped. Unpublish and delete notifications do not include fields.
+ *
+ * @author Phillip Webb
+ */
+public class EntryNotification {
+
+	private static final String LOCALE = "en-US";
+
+	private final Sys sys;
+
+	private final Map<String, Map<String, Object>> fields;
+
+	@JsonCreator(mode = Mode.PROPERTIES)
+	public EntryNotification(Sys sys, Map<String, Map<String, Object>> fields) {
+		this.sys = sys;
+		this.fields = fields;
+	}
+
+	public String getEntryId() {
+		return (this.sys != null) ? this.sys.id() : null;
+	}
+
+	public String getContentType() {
+		Link contentType = (this.sys != null) ? this.sys.contentType() : null;
+		return (contentType != null && contentType.sys() != null) ? contentType.sys().id() : null;
+	}
+
+	public String getSlug() {
+		Map<String, Object> slug = (this.fields != null) ? this.fields.get("slug") : null;
+		Object value = (slug != null) ? slug.get(LOCALE) : null;
+		return (value != null) ? value.toString() : null;
+	}
+
+	/**
+	 * Contentful system properties.
+	 *
+	 * @param id the entry ID
+	 * @param contentType link to the content type
+	 */
+	public record Sys(String id, Link contentType) {
+
+	}
+
+	/**
+	 * A Contentful link.
+	 *
+	 * @param sys the system properties of the linked item
+	 */
+	public record Link(Sys sys) {
+
+	}
+
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.projectapi.contentful.ProjectCatalog.Entry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Tests for {@link ContentfulCatalog}.
+ *
+ * @author Phillip Webb
+ */
+class ContentfulCatalogTests {
+
+	private static final Duration REFRESH_INTERVAL = Duration.ofMinutes(5);
+
+	private static final Duration MAX_STALENESS = Duration.ofHours(1);
+
+	private final AtomicLong time = new AtomicLong();
+
+	private ContentfulQueries queries;
+
+	private ContentfulCatalog catalog;
+
+	@BeforeEach
+	void setup() {
+		this.queries = mock(ContentfulQueries.class);
+		ContentfulCatalogSettings settings = new ContentfulCatalogSettings(true, REFRESH_INTERVAL, MAX_STALENESS);
+		this.catalog = new ContentfulCatalog(this.queries, settings, this.time::get, Runnable::run);
+	}
+
+	@Test
+	void getProjectsLoadsCatalogOnce() {
+		given(this.queries.getCatalog()).willReturn(catalog("spring-boot", "spring-data"));
+		assertThat(this.catalog.getProjects().block()).hasSize(2);
+		assertThat(this.catalog.getProject("spring-boot").block().getSlug()).isEqualTo("spring-boot");
+		assertThat(this.catalog.getProjectDocumentations("spring-data").block()).isEmpty();
+		verify(this.queries, times(1)).getCatalog();
+	}
+
+	@Test
+	void getProjectsWhenOlderThanRefreshIntervalReturnsCurrentAndRefreshes() {
+		given(this.queries.getCatalog()).willReturn(catalog("spring-boot"), catalog("spring-boot", "spring-data"));
+		assertThat(this.catalog.getProjects().block()).hasSize(1);
+		this.time.addAndGet(REFRESH_INTERVAL.plusSeconds(1).toNanos());
+		assertThat(this.catalog.getProjects().block()).hasSize(1);
+		assertThat(this.catalog.getProjects().block()).hasSize(2);
+	}
+
+	@Test
+	void getProjectsWhenRefreshFailsReturnsCurrent() {
+		given(this.queries.getCatalog()).willReturn(catalog("spring-boot"))
+				.willThrow(InvalidContentfulQueryResponseException.class);
+		this.catalog.getProjects().block();
+		this.time.addAndGet(REFRESH_INTERVAL.plusSeconds(1).toNanos());
+		assertThat(this.catalog.getProjects().block()).hasSize(1);
+		assertThat(this.catalog.getProjects().block()).hasSize(1);
+	}
+
+	@Test
+	void getProjectsWhenPastMaxStalenessAndRefreshFailsThrowsException() {
+		given(this.queries.getCatalog()).willReturn(catalog("spring-boot"))
+				.willThrow(InvalidContentfulQueryResponseException.class);
+		this.catalog.getProjects().block();
+		this.time.addAndGet(REFRESH_INTERVAL.plus(MAX_STALENESS).plusSeconds(1).toNanos());
+		assertThatExceptionOfType(InvalidContentfulQueryResponseException.class)
+				.isThrownBy(() -> this.catalog.getProjects().block());
+	}
+
+	@Test
+	void getVersionWhenCatalogUnchangedDoesNotChange() {
+		given(this.queries.getCatalog()).willReturn(catalog("spring-boot"));
+		this.catalog.getProjects().block();
+		String version = this.catalog.getVersion();
+		this.catalog.getProjects().block();
+		assertThat(this.catalog.getVersion()).isEqualTo(version);
+	}
+
+	@Test
+	void getVersionWhenCatalogRefreshedChanges() {
+		given(this.queries.getCatalog()).willReturn(catalog("spring-boot"), catalog("spring-boot", "spring-data"));
+		this.catalog.getProjects().block();
+		String version = this.catalog.getVersion();
+		this.time.addAndGet(REFRESH_INTERVAL.plusSeconds(1).toNanos());
+		this.catalog.getProjects().block();
+		assertThat(this.catalog.getVersion()).isNotEqualTo(version);
+	}
+
+	@Test
+	void getVersionWhenProjectEvictedChanges() {
+		given(this.queries.getCatalog()).willReturn(catalog("spring-boot", "spring-data"));
+		this.catalog.getProjects().block();
+		String version = this.catalog.getVersion();
+		given(this.queries.getCatalogEntry("spring-boot")).willThrow(NoSuchContentfulProjectException.class);
+		this.catalog.evictProject("spring-boot");
+		assertThat(this.catalog.getVersion()).isNotEqualTo(version);
+	}
+
+	@Test
+	void evictProjectReloadsSingleProject() {
+		given(this.queries.getCatalog()).willReturn(catalog("spring-boot", "spring-data"));
+		this.catalog.getProjects().block();
+		Entry updated = new Entry("id", new Project("Spring Boot", "spring-boot", null, null), List.of(), List.of());
+		given(this.queries.getCatalogEntry("spring-boot")).willReturn(updated);
+		this.catalog.evictProject("spring-boot");
+		assertThat(this.catalog.getProject("spring-boot").block().getTitle()).isEqualTo("Spring Boot");
+		verify(this.queries, times(1)).getCatalog();
+	}
+
+	@Test
+	void evictProjectWhenProjectNoLongerExistsRemovesProject() {
+		given(this.queries.getCatalog()).willReturn(catalog("spring-boot", "spring-data"));
+		this.catalog.getProjects().block();
+		given(this.queries.getCatalogEntry("spring-boot")).willThrow(NoSuchContentfulProjectException.class);
+		this.catalog.evictProject("spring-boot");
+		assertThat(this.catalog.getProjects().block()).extracting(Project::getSlug).containsExactly("spring-data");
+	}
+
+	@Test
+	void evictProjectWritesCatalogFile(@TempDir Path temp) {
+		ProjectCatalogFile file = new ProjectCatalogFile(new ObjectMapper(), temp.resolve("catalog.gz"));
+		ContentfulCatalogSettings settings = new ContentfulCatalogSettings(true, REFRESH_INTERVAL, MAX_STALENESS);
+		ContentfulCatalog catalog = new ContentfulCatalog(this.queries, null, file, settings, this.time::get,
+				Runnable::run);
+		given(this.queries.getCatalog()).willReturn(catalog("spring-boot", "spring-data"));
+		catalog.getProjects().block();
+		given(this.queries.getCatalogEntry("spring-boot")).willThrow(NoSuchContentfulProjectException.class);
+		catalog.evictProject("spring-boot");
+		assertThat(file.read().getProjects()).extracting(Project::getSlug).containsExactly("spring-data");
+	}
+
+	@Test
+	void evictProjectWhenReloadFailsRefreshesCatalogOnNextRead() {
+		given(this.queries.getCatalog()).willReturn(catalog("spring-boot"), catalog("spring-boot", "spring-data"));
+		this.catalog.getProjects().block();
+		given(this.queries.getCatalogEntry("spring-boot")).willThrow(InvalidContentfulQueryResponseException.class);
+		this.catalog.evictProject("spring-boot");
+		this.time.incrementAndGet();
+		this.catalog.getProjects().block();
+		assertThat(this.catalog.getProjects().block()).hasSize(2);
+	}
+
+	@Test
+	void evictProjectWhenReloadTimesOutRefreshesCatalogOnNextRead() {
+		given(this.queries.getCatalog()).willReturn(catalog("spring-boot"), catalog("spring-boot", "spring-data"));
+		this.catalog.getProjects().block();
+		given(this.queries.getCatalogEntry("spring-boot")).willThrow(IllegalStateException.class);
+		this.catalog.evictProject("spring-boot");
+		this.time.incrementAndGet();
+		this.catalog.getProjects().block();
+		assertThat(this.catalog.getProjects().block()).hasSize(2);
+	}
+
+	@Test
+	void evictEntryWhenSlugHasChangedReplacesPreviousProject() {
+		given(this.queries.getCatalog()).willReturn(catalog("spring-boot", "spring-data"));
+		this.catalog.getProjects().block();
+		Entry renamed = new Entry("spring-boot-id", new Project("Boot", "boot", null, null), null, null);
+		given(this.queries.getCatalogEntry("spring-boot")).willThrow(NoSuchContentfulProjectException.class);
+		given(this.queries.getCatalogEntry("boot")).willReturn(renamed);
+		this.catalog.evictEntry("spring-boot-id", "boot");
+		assertThat(this.catalog.getProjects().block()).extracting(Project::getSlug).containsExactly("spring-data",
+				"boot");
+	}
+
+	@Test
+	void evictEntryWhenDeletedRemovesProject() {
+		given(this.queries.getCatalog()).willReturn(catalog("spring-boot", "spring-data"));
+		this.catalog.getProjects().block();
+		given(this.queries.getCatalogEntry("spring-boot")).willThrow(NoSuchContentfulProjectException.class);
+		this.catalog.evictEntry("spring-boot-id", null);
+		assertThat(this.catalog.getProjects().block()).extracting(Project::getSlug).containsExactly("spring-data");
+	}
+
+	@Test
+	void restoreServesCatalogFromFileAndRefreshesInBackground(@TempDir Path temp) {
+		ProjectCatalogFile file = new ProjectCatalogFile(new ObjectMapper(), temp.resolve("catalog.gz"));
+		file.write(catalog("spring-boot"));
+		List<Runnable> refreshes = new ArrayList<>();
+		ContentfulCatalogSettings settings = new ContentfulCatalogSettings(true, REFRESH_INTERVAL, MAX_STALENESS);
+		ContentfulCatalog catalog = new ContentfulCatalog(this.queries, null, file, settings, this.time::get,
+				refreshes::add);
+		catalog.restore();
+		assertThat(catalog.getProjects().block()).extracting(Project::getSlug).containsExactly("spring-boot");
+		verifyNoInteractions(this.queries);
+		given(this.queries.getCatalog()).willReturn(catalog("spring-boot", "spring-data"));
+		assertThat(refreshes).hasSize(1);
+		refreshes.get(0).run();
+		assertThat(catalog.getProjects().block()).hasSize(2);
+		assertThat(file.read().getProjects()).hasSize(2);
+	}
+
+	@Test
+	void restoreWhenNoFileLoadsOnFirstRead(@TempDir Path temp) {
+		ProjectCatalogFile file = new ProjectCatalogFile(new ObjectMapper(), temp.resolve("catalog.gz"));
+		ContentfulCatalogSettings settings = new ContentfulCatalogSettings(true, REFRESH_INTERVAL, MAX_STALENESS);
+		ContentfulCatalog catalog = new ContentfulCatalog(this.queries, null, file, settings, this.time::get,
+				Runnable::run);
+		catalog.restore();
+		given(this.queries.getCatalog()).willReturn(catalog("spring-boot"));
+		assertThat(catalog.getProjects().block()).hasSize(1);
+		assertThat(file.read().getProjects()).hasSize(1);
+	}
+
+	private ProjectCatalog catalog(String... slugs) {
+		return ProjectCatalog.of(List.of(slugs).stream()
+				.map((slug) -> new Entry(slug + "-id", new Project(slug, slug, null, null), null, null)).toList());
+	}
+
+}
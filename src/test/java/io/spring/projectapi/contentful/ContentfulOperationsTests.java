@@ -0,0 +1,229 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.contentful.java.cma.CMAClient;
+import com.contentful.java.cma.ModuleEntries;
+import com.contentful.java.cma.model.CMAArray;
+import com.contentful.java.cma.model.CMAEntry;
+import com.contentful.java.cma.model.CMAHttpException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.projectapi.contentful.ProjectDocumentation.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link ContentfulOperations}.
+ *
+ * @author Phillip Webb
+ */
+class ContentfulOperationsTests {
+
+	private final CMAClient client = mock(CMAClient.class);
+
+	private final ModuleEntries entries = mock(ModuleEntries.class);
+
+	private final Map<String, String> catalogEntryIds = new HashMap<>();
+
+	private ContentfulOperations operations;
+
+	@BeforeEach
+	void setup() {
+		given(this.client.entries()).willReturn(this.entries);
+		this.operations = new ContentfulOperations(new ObjectMapper(), this.client, new ContentfulMetrics(),
+				this.catalogEntryIds::get);
+	}
+
+	@Test
+	void addProjectDocumentationsWhenEntryIdNotKnownSearchesBySlug() {
+		CMAEntry entry = projectEntry("1", "spring-boot");
+		givenSearchResult(entry);
+		this.operations.addProjectDocumentations("spring-boot", List.of(documentation("3.0.0")));
+		verify(this.entries).fetchAll(Map.of("content_type", "project", "fields.slug", "spring-boot"));
+		verify(this.entries, never()).fetchOne(anyString());
+		verify(this.entries).update(entry);
+	}
+
+	@Test
+	void addProjectDocumentationsWhenEntryIdKnownFromReaderFetchesById() {
+		CMAEntry entry = projectEntry("1", "spring-boot");
+		this.catalogEntryIds.put("spring-boot", "1");
+		given(this.entries.fetchOne("1")).willReturn(entry);
+		this.operations.addProjectDocumentations("spring-boot", List.of(documentation("3.0.0")));
+		verify(this.entries, never()).fetchAll(anyMap());
+		verify(this.entries).update(entry);
+	}
+
+	@Test
+	void addProjectDocumentationsWhenPreviouslyWrittenFetchesById() {
+		CMAEntry entry = projectEntry("1", "spring-boot");
+		givenSearchResult(entry);
+		given(this.entries.fetchOne("1")).willReturn(entry);
+		this.operations.addProjectDocumentations("spring-boot", List.of(documentation("3.0.0")));
+		this.operations.deleteDocumentation("spring-boot", "3.0.0");
+		verify(this.entries).fetchAll(anyMap());
+		verify(this.entries).fetchOne("1");
+		verify(this.entries, times(2)).update(entry);
+	}
+
+	@Test
+	void addProjectDocumentationsWhenEntryIdBacksOtherProjectSearchesBySlug() {
+		CMAEntry entry = projectEntry("2", "spring-boot");
+		this.catalogEntryIds.put("spring-boot", "1");
+		given(this.entries.fetchOne("1")).willReturn(projectEntry("1", "spring-data"));
+		givenSearchResult(entry);
+		this.operations.addProjectDocumentations("spring-boot", List.of(documentation("3.0.0")));
+		verify(this.entries).fetchAll(anyMap());
+		verify(this.entries).update(entry);
+	}
+
+	@Test
+	void addProjectDocumentationsWhenVersionConflictRetriesWithFreshEntry() {
+		CMAEntry stale = projectEntry("1", "spring-boot");
+		CMAEntry fresh = projectEntry("1", "spring-boot");
+		givenSearchResult(stale);
+		given(this.entries.fetchOne("1")).willReturn(fresh);
+		CMAHttpException conflict = httpException(409);
+		given(this.entries.update(stale)).willThrow(conflict);
+		this.operations.addProjectDocumentations("spring-boot", List.of(documentation("3.0.0")));
+		verify(this.entries).update(stale);
+		verify(this.entries).update(fresh);
+		assertThat(fresh.<List<Map<String, Object>>>getField("documentation", "en-US")).hasSize(1);
+	}
+
+	@Test
+	void addProjectDocumentationsWhenVersionConflictPersistsThrowsException() {
+		CMAEntry entry = projectEntry("1", "spring-boot");
+		CMAEntry firstRetry = projectEntry("1", "spring-boot");
+		CMAEntry secondRetry = projectEntry("1", "spring-boot");
+		givenSearchResult(entry);
+		given(this.entries.fetchOne("1")).willReturn(firstRetry, secondRetry);
+		CMAHttpException conflict = httpException(409);
+		given(this.entries.update(any())).willThrow(conflict);
+		assertThatExceptionOfType(CMAHttpException.class).isThrownBy(
+				() -> this.operations.addProjectDocumentations("spring-boot", List.of(documentation("3.0.0"))));
+		verify(this.entries, times(3)).update(any());
+	}
+
+	@Test
+	void addProjectDocumentationsWhenOtherErrorDoesNotRetry() {
+		CMAEntry entry = projectEntry("1", "spring-boot");
+		givenSearchResult(entry);
+		CMAHttpException error = httpException(500);
+		given(this.entries.update(entry)).willThrow(error);
+		assertThatExceptionOfType(CMAHttpException.class).isThrownBy(
+				() -> this.operations.addProjectDocumentations("spring-boot", List.of(documentation("3.0.0"))));
+		verify(this.entries).update(entry);
+	}
+
+	@Test
+	void addProjectDocumentationsWhenVersionAlreadyPresentThrowsExceptionAndDoesNotUpdate() {
+		CMAEntry entry = projectEntry("1", "spring-boot");
+		givenSearchResult(entry);
+		given(this.entries.fetchOne("1")).willReturn(entry);
+		this.operations.addProjectDocumentations("spring-boot", List.of(documentation("3.0.0")));
+		DocumentationAlreadyPresentException ex = catchThrowableOfType(() -> this.operations
+				.addProjectDocumentations("spring-boot", List.of(documentation("3.0.1"), documentation("3.0.0"))),
+				DocumentationAlreadyPresentException.class);
+		assertThat(ex.getVersions()).containsExactly("3.0.0");
+		assertThat(ex).hasMessage("Release '3.0.0' already present for project 'spring-boot'");
+		verify(this.entries).update(entry);
+		assertThat(entry.<List<Map<String, Object>>>getField("documentation", "en-US")).hasSize(1);
+	}
+
+	@Test
+	void addProjectDocumentationsForProjectsWhenVersionsAlreadyPresentReportsAllVersions() {
+		CMAEntry entry = projectEntry("1", "spring-boot");
+		List<Map<String, Object>> documentation = entry.getField("documentation", "en-US");
+		documentation.add(Map.of("version", "3.0.0"));
+		documentation.add(Map.of("version", "3.0.1"));
+		givenSearchResult(entry);
+		List<DocumentationUpdateResult> results = this.operations.addProjectDocumentations(Map.of("spring-boot",
+				List.of(documentation("3.0.0"), documentation("3.0.1"), documentation("3.0.2"))));
+		assertThat(results).singleElement().satisfies((result) -> {
+			assertThat(result.getOutcome()).isEqualTo(DocumentationUpdateResult.Outcome.ALREADY_PRESENT);
+			assertThat(result.getMessage())
+					.isEqualTo("Releases '3.0.0', '3.0.1' already present for project 'spring-boot'");
+		});
+		verify(this.entries, never()).update(any());
+	}
+
+	@Test
+	void addProjectDocumentationsForProjectsWhenUpdateFailsDoesNotReturnExceptionMessage() {
+		CMAEntry entry = projectEntry("1", "spring-boot");
+		givenSearchResult(entry);
+		given(this.entries.update(entry)).willThrow(new IllegalStateException("internal details"));
+		List<DocumentationUpdateResult> results = this.operations
+				.addProjectDocumentations(Map.of("spring-boot", List.of(documentation("3.0.0"))));
+		assertThat(results).singleElement().satisfies((result) -> {
+			assertThat(result.getOutcome()).isEqualTo(DocumentationUpdateResult.Outcome.FAILED);
+			assertThat(result.getMessage()).isEqualTo("Project 'spring-boot' could not be updated");
+		});
+	}
+
+	@Test
+	void deleteDocumentationWhenVersionNotPresentDoesNotUpdate() {
+		CMAEntry entry = projectEntry("1", "spring-boot");
+		givenSearchResult(entry);
+		this.operations.deleteDocumentation("spring-boot", "3.0.0");
+		verify(this.entries, never()).update(any());
+	}
+
+	private CMAHttpException httpException(int responseCode) {
+		CMAHttpException exception = mock(CMAHttpException.class);
+		given(exception.responseCode()).willReturn(responseCode);
+		return exception;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void givenSearchResult(CMAEntry... entries) {
+		CMAArray<CMAEntry> array = mock(CMAArray.class);
+		given(array.getItems()).willReturn(List.of(entries));
+		given(this.entries.fetchAll(anyMap())).willReturn(array);
+	}
+
+	private CMAEntry projectEntry(String id, String slug) {
+		CMAEntry entry = mock(CMAEntry.class);
+		given(entry.getId()).willReturn(id);
+		given(entry.<String>getField("slug", "en-US")).willReturn(slug);
+		given(entry.<List<Map<String, Object>>>getField("documentation", "en-US")).willReturn(new ArrayList<>());
+		return entry;
+	}
+
+	private ProjectDocumentation documentation(String version) {
+		return new ProjectDocumentation(version, "https://example.com/api", "https://example.com/ref",
+				Status.GENERAL_AVAILABILITY, "spring-releases", false);
+	}
+
+}
@@ -19,7 +19,14 @@ package io.spring.projectapi.contentful;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
-
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import okhttp3.HttpUrl;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
@@ -58,10 +65,13 @@ class ContentfulQueriesTests {
 	@Autowired
 	private ContentfulQueries contentfulQueries;
 
+	@Autowired
+	private MeterRegistry meterRegistry;
+
 	@Test
 	void getProjectsReturnsProjects() throws IOException {
 		setupResponse("query-projects.json");
-		List<Project> projects = this.contentfulQueries.getProjects();
+		List<Project> projects = this.contentfulQueries.getProjects().block();
 		assertThat(projects.size()).isEqualTo(3);
 		assertThat(projects.get(0).getSlug()).isEqualTo("spring-xd");
 	}
@@ -69,20 +79,21 @@ class ContentfulQueriesTests {
 	@Test
 	void getProjectsWhenNoProjectsReturnsEmpty() throws IOException {
 		setupResponse("query-no-projects.json");
-		List<Project> projects = this.contentfulQueries.getProjects();
+		List<Project> projects = this.contentfulQueries.getProjects().block();
 		assertThat(projects).isEmpty();
 	}
 
 	@Test
 	void getProjectsWhenErrorThrowsException() throws IOException {
 		setupResponse("query-error.json");
-		assertThatExceptionOfType(ContentfulException.class).isThrownBy(this.contentfulQueries::getProjects);
+		assertThatExceptionOfType(ContentfulException.class)
+				.isThrownBy(() -> this.contentfulQueries.getProjects().block());
 	}
 
 	@Test
 	void getProjectReturnsProject() throws IOException {
 		setupResponse("query-project.json");
-		Project project = this.contentfulQueries.getProject("spring-xd");
+		Project project = this.contentfulQueries.getProject("spring-xd").block();
 		assertThat(project.getSlug()).isEqualTo("spring-xd");
 	}
 
@@ -90,7 +101,7 @@ class ContentfulQueriesTests {
 	void getProjectWhenNoNoProjectMatchThrowsException() throws IOException {
 		setupResponse("query-no-project.json");
 		assertThatExceptionOfType(NoSuchContentfulProjectException.class)
-				.isThrownBy(() -> this.contentfulQueries.getProject("spring-xd"))
+				.isThrownBy(() -> this.contentfulQueries.getProject("spring-xd").block())
 				.satisfies((ex) -> assertThat(ex.getProjectSlug()).isEqualTo("spring-xd"));
 	}
 
@@ -98,13 +109,13 @@ class ContentfulQueriesTests {
 	void getProjectWhenErrorThrowsException() throws IOException {
 		setupResponse("query-error.json");
 		assertThatExceptionOfType(ContentfulException.class)
-				.isThrownBy(() -> this.contentfulQueries.getProject("spring-xd"));
+				.isThrownBy(() -> this.contentfulQueries.getProject("spring-xd").block());
 	}
 
 	@Test
 	void getProjectDocumentationsReturnsDocumentations() throws IOException {
 		setupResponse("query-project-documentations.json");
-		List<ProjectDocumentation> documenations = this.contentfulQueries.getProjectDocumentations("spring-xd");
+		List<ProjectDocumentation> documenations = this.contentfulQueries.getProjectDocumentations("spring-xd").block();
 		assertThat(documenations).hasSize(6);
 		assertThat(documenations.get(0).getVersion()).isEqualTo("3.0.0-SNAPSHOT");
 	}
@@ -113,14 +124,14 @@ class ContentfulQueriesTests {
 	void getProjectDocumentationsWhenNoProjectMatchThrowsException() throws IOException {
 		setupResponse("query-no-project.json");
 		assertThatExceptionOfType(NoSuchContentfulProjectException.class)
-				.isThrownBy(() -> this.contentfulQueries.getProjectDocumentations("spring-xd"))
+				.isThrownBy(() -> this.contentfulQueries.getProjectDocumentations("spring-xd").block())
 				.satisfies((ex) -> assertThat(ex.getProjectSlug()).isEqualTo("spring-xd"));
 	}
 
 	@Test
 	void getProjectSupportsReturnsSupports() throws IOException {
 		setupResponse("query-project-supports.json");
-		List<ProjectSupport> supports = this.contentfulQueries.getProjectSupports("spring-xd");
+		List<ProjectSupport> supports = this.contentfulQueries.getProjectSupports("spring-xd").block();
 		assertThat(supports).hasSize(10);
 		assertThat(supports.get(0).getBranch()).isEqualTo("1.5.x");
 	}
@@ -129,21 +140,87 @@ class ContentfulQueriesTests {
 	void getProjectSupportsWhenNoProjectMatchThrowsException() throws IOException {
 		setupResponse("query-no-project.json");
 		assertThatExceptionOfType(NoSuchContentfulProjectException.class)
-				.isThrownBy(() -> this.contentfulQueries.getProjectSupports("spring-xd"))
+				.isThrownBy(() -> this.contentfulQueries.getProjectSupports("spring-xd").block())
 				.satisfies((ex) -> assertThat(ex.getProjectSlug()).isEqualTo("spring-xd"));
 	}
 
+	@Test
+	void getCatalogReturnsAllPages() throws IOException {
+		setupResponse("query-catalog-page-1.json");
+		setupResponse("query-catalog-page-2.json");
+		ProjectCatalog catalog = this.contentfulQueries.getCatalog();
+		assertThat(catalog.getProjects()).extracting(Project::getSlug).containsExactly("spring-boot", "spring-ws",
+				"spring-xd");
+		assertThat(catalog.getProjectDocumentations("spring-boot")).extracting(ProjectDocumentation::getVersion)
+				.containsExactly("3.0.0-SNAPSHOT", "2.7.5");
+		assertThat(catalog.getProjectSupports("spring-boot")).extracting(ProjectSupport::getBranch)
+				.containsExactly("2.7.x");
+		assertThat(catalog.getProjectDocumentations("spring-ws")).isEmpty();
+		assertThat(catalog.getProjectSupports("spring-ws")).isEmpty();
+		assertThat(catalog.getEntries()).extracting(ProjectCatalog.Entry::getId).containsExactly(
+				"1Xe2hJcwSslBa8e1jHAGmd", "6iTXSEmyYexGCTCAQlFdkv", "2Ttq5G7ZGbmXDtENtBt7ur");
+	}
+
+	@Test
+	void getCatalogWhenErrorThrowsException() throws IOException {
+		setupResponse("query-error.json");
+		assertThatExceptionOfType(ContentfulException.class).isThrownBy(this.contentfulQueries::getCatalog);
+	}
+
+	@Test
+	void getProjectDocumentationsWhenCalledConcurrentlySharesRequest() throws Exception {
+		setupResponse("query-project-documentations.json", 300);
+		int requestCount = this.server.getRequestCount();
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<List<ProjectDocumentation>> first = executor
+					.submit(() -> this.contentfulQueries.getProjectDocumentations("spring-xd").block());
+			Future<List<ProjectDocumentation>> second = executor
+					.submit(() -> this.contentfulQueries.getProjectDocumentations("spring-xd").block());
+			assertThat(first.get(2, TimeUnit.SECONDS)).hasSize(6);
+			assertThat(second.get(2, TimeUnit.SECONDS)).hasSize(6);
+		}
+		finally {
+			executor.shutdown();
+		}
+		assertThat(this.server.getRequestCount() - requestCount).isEqualTo(1);
+	}
+
+	@Test
+	void getProjectSupportsRecordsTimer() throws IOException {
+		setupResponse("query-project-supports.json");
+		this.contentfulQueries.getProjectSupports("spring-xd").block();
+		Timer timer = this.meterRegistry.get(ContentfulMetrics.GRAPHQL_REQUESTS).tag("document", "project-supports")
+				.tag("outcome", "SUCCESS").tag("status", "200").timer();
+		assertThat(timer.count()).isEqualTo(1);
+	}
+
+	@Test
+	void getProjectWhenTimesOutRecordsTimer() throws IOException {
+		setupResponse("query-project.json", 1500);
+		assertThatExceptionOfType(InvalidContentfulQueryResponseException.class)
+				.isThrownBy(() -> this.contentfulQueries.getProject("spring-xd").block());
+		Timer timer = this.meterRegistry.get(ContentfulMetrics.GRAPHQL_REQUESTS).tag("document", "project")
+				.tag("outcome", "TIMEOUT").tag("status", "NONE").timer();
+		assertThat(timer.count()).isEqualTo(1);
+	}
+
 	private void setupResponse(String name) throws IOException {
-		setupResponse(new ClassPathResource(name, getClass()));
+		setupResponse(name, 0);
+	}
+
+	private void setupResponse(String name, long bodyDelayMillis) throws IOException {
+		setupResponse(new ClassPathResource(name, getClass()), bodyDelayMillis);
 	}
 
-	private void setupResponse(Resource resource) throws IOException {
+	private void setupResponse(Resource resource, long bodyDelayMillis) throws IOException {
 		try (InputStream inputStream = resource.getInputStream()) {
 			try (Buffer buffer = new Buffer()) {
 				buffer.readFrom(inputStream);
 				MockResponse response = new MockResponse();
 				response.setBody(buffer);
 				response.setHeader("Content-Type", "application/json");
+				response.setBodyDelay(bodyDelayMillis, TimeUnit.MILLISECONDS);
 				this.server.enqueue(response);
 			}
 		}
@@ -160,10 +237,16 @@ class ContentfulQueriesTests {
 		}
 
 		@Bean
-		ContentfulQueries contentfulQueries(MockWebServer mockWebServer, WebClient.Builder webClientBuilder) {
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+		@Bean
+		ContentfulQueries contentfulQueries(MockWebServer mockWebServer, WebClient.Builder webClientBuilder,
+				MeterRegistry meterRegistry) {
 			HttpUrl baseUrl = mockWebServer.url("/contentful.com");
 			WebClient webClient = webClientBuilder.baseUrl(baseUrl.toString()).build();
-			return new ContentfulQueries(webClient, ACCESS_TOKEN);
+			return new ContentfulQueries(webClient, ACCESS_TOKEN, new ContentfulMetrics(meterRegistry));
 		}
 
 	}
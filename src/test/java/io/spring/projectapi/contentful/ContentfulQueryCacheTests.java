@@ -0,0 +1,317 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import io.spring.projectapi.contentful.ProjectDocumentation.Status;
+import io.spring.projectapi.web.ResponseCacheFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link ContentfulQueryCache}.
+ *
+ * @author Phillip Webb
+ */
+class ContentfulQueryCacheTests {
+
+	private static final Duration TTL = Duration.ofMinutes(5);
+
+	private static final Duration MAX_STALENESS = Duration.ofHours(1);
+
+	private final AtomicLong time = new AtomicLong();
+
+	private ContentfulQueries queries;
+
+	private ContentfulQueryCache cache;
+
+	@BeforeEach
+	void setup() {
+		this.queries = mock(ContentfulQueries.class);
+		this.cache = createCache(Duration.ZERO);
+	}
+
+	@Test
+	void getProjectsWhenCachedDoesNotQueryAgain() {
+		given(this.queries.getProjects())
+				.willReturn(Mono.just(List.of(new Project("Spring Boot", "spring-boot", null, null))));
+		assertThat(this.cache.getProjects().block()).hasSize(1);
+		assertThat(this.cache.getProjects().block()).hasSize(1);
+		verify(this.queries, times(1)).getProjects();
+	}
+
+	@Test
+	void getProjectDocumentationsWhenExpiredQueriesAgain() {
+		given(this.queries.getProjectDocumentations("spring-boot")).willReturn(Mono.just(getProjectDocumentations()));
+		this.cache.getProjectDocumentations("spring-boot").block();
+		this.time.addAndGet(TTL.plusSeconds(1).toNanos());
+		this.cache.getProjectDocumentations("spring-boot").block();
+		verify(this.queries, times(2)).getProjectDocumentations("spring-boot");
+	}
+
+	@Test
+	void getProjectDocumentationsCachesPerProject() {
+		given(this.queries.getProjectDocumentations("spring-boot")).willReturn(Mono.just(getProjectDocumentations()));
+		given(this.queries.getProjectDocumentations("spring-data")).willReturn(Mono.just(List.of()));
+		assertThat(this.cache.getProjectDocumentations("spring-boot").block()).hasSize(1);
+		assertThat(this.cache.getProjectDocumentations("spring-data").block()).isEmpty();
+		assertThat(this.cache.getProjectDocumentations("spring-boot").block()).hasSize(1);
+		verify(this.queries, times(1)).getProjectDocumentations("spring-boot");
+		verify(this.queries, times(1)).getProjectDocumentations("spring-data");
+	}
+
+	@Test
+	void getProjectDocumentationIndexReturnsCachedIndex() {
+		given(this.queries.getProjectDocumentations("spring-boot")).willReturn(Mono.just(getProjectDocumentations()));
+		ProjectDocumentationIndex index = this.cache.getProjectDocumentationIndex("spring-boot").block();
+		assertThat(this.cache.getProjectDocumentationIndex("spring-boot").block()).isSameAs(index);
+		assertThat(this.cache.getProjectDocumentations("spring-boot").block()).isSameAs(index.getDocumentations());
+		verify(this.queries, times(1)).getProjectDocumentations("spring-boot");
+	}
+
+	@Test
+	void getProjectDocumentationIndexesAndAllProjectSupportsQueryCatalogOnce() {
+		ProjectCatalog catalog = ProjectCatalog.of(List.of(new ProjectCatalog.Entry("1",
+				new Project("Spring Boot", "spring-boot", null, Project.Status.ACTIVE), getProjectDocumentations(),
+				null)));
+		given(this.queries.getCatalog()).willReturn(catalog);
+		assertThat(this.cache.getProjectDocumentationIndexes().block()).containsOnlyKeys("spring-boot");
+		assertThat(this.cache.getAllProjectSupports().block()).containsOnlyKeys("spring-boot");
+		verify(this.queries, times(1)).getCatalog();
+		verify(this.queries, never()).getProjectDocumentations("spring-boot");
+	}
+
+	@Test
+	void evictProjectEvictsAllProjectDocumentationIndexes() {
+		given(this.queries.getCatalog()).willReturn(ProjectCatalog.EMPTY);
+		this.cache.getProjectDocumentationIndexes().block();
+		this.cache.evictProject("spring-boot");
+		this.cache.getProjectDocumentationIndexes().block();
+		verify(this.queries, times(2)).getCatalog();
+	}
+
+	@Test
+	void getProjectWhenNoSuchProjectDoesNotCacheException() {
+		given(this.queries.getProject("spring-boot")).willThrow(NoSuchContentfulProjectException.class);
+		assertThatExceptionOfType(NoSuchContentfulProjectException.class)
+				.isThrownBy(() -> this.cache.getProject("spring-boot").block());
+		assertThatExceptionOfType(NoSuchContentfulProjectException.class)
+				.isThrownBy(() -> this.cache.getProject("spring-boot").block());
+		verify(this.queries, times(2)).getProject("spring-boot");
+	}
+
+	@Test
+	void evictProjectRemovesCachedProjectData() {
+		given(this.queries.getProjectDocumentations("spring-boot")).willReturn(Mono.just(getProjectDocumentations()));
+		given(this.queries.getProjectSupports("spring-boot")).willReturn(Mono.just(List.of()));
+		this.cache.getProjectDocumentations("spring-boot").block();
+		this.cache.getProjectSupports("spring-boot").block();
+		this.cache.evictProject("spring-boot");
+		this.cache.getProjectDocumentations("spring-boot").block();
+		this.cache.getProjectSupports("spring-boot").block();
+		verify(this.queries, times(2)).getProjectDocumentations("spring-boot");
+		verify(this.queries, times(2)).getProjectSupports("spring-boot");
+	}
+
+	@Test
+	void getVersionWhenCachedDoesNotChange() {
+		given(this.queries.getProjectDocumentations("spring-boot")).willReturn(Mono.just(getProjectDocumentations()));
+		this.cache.getProjectDocumentations("spring-boot").block();
+		String version = this.cache.getVersion();
+		this.cache.getProjectDocumentations("spring-boot").block();
+		assertThat(this.cache.getVersion()).isEqualTo(version);
+	}
+
+	@Test
+	void getVersionWhenProjectEvictedChanges() {
+		given(this.queries.getProjectDocumentations("spring-boot")).willReturn(Mono.just(getProjectDocumentations()));
+		this.cache.getProjectDocumentations("spring-boot").block();
+		String version = this.cache.getVersion();
+		this.cache.evictProject("spring-boot");
+		assertThat(this.cache.getVersion()).isNotEqualTo(version);
+	}
+
+	@Test
+	void getVersionWhenOtherProjectLoadedDoesNotChange() {
+		given(this.queries.getProjectDocumentations("spring-boot")).willReturn(Mono.just(getProjectDocumentations()));
+		given(this.queries.getProjectDocumentations("spring-data")).willReturn(Mono.just(List.of()));
+		this.cache.getProjectDocumentations("spring-boot").block();
+		String version = this.cache.getVersion();
+		this.cache.getProjectDocumentations("spring-data").block();
+		assertThat(this.cache.getVersion()).isEqualTo(version);
+	}
+
+	@Test
+	void getVersionWhenExpiredAndReloadedWithSameDataDoesNotChange() {
+		given(this.queries.getProjectDocumentations("spring-boot")).willReturn(Mono.just(getProjectDocumentations()));
+		this.cache.getProjectDocumentations("spring-boot").block();
+		String version = this.cache.getVersion();
+		this.time.addAndGet(TTL.plusSeconds(1).toNanos());
+		this.cache.getProjectDocumentations("spring-boot").block();
+		verify(this.queries, times(2)).getProjectDocumentations("spring-boot");
+		assertThat(this.cache.getVersion()).isEqualTo(version);
+	}
+
+	@Test
+	void getVersionWhenExpiredAndReloadedWithDifferentDataChanges() {
+		given(this.queries.getProjectDocumentations("spring-boot")).willReturn(Mono.just(getProjectDocumentations()),
+				Mono.just(List.of()));
+		this.cache.getProjectDocumentations("spring-boot").block();
+		String version = this.cache.getVersion();
+		this.time.addAndGet(TTL.plusSeconds(1).toNanos());
+		assertThat(this.cache.getProjectDocumentations("spring-boot").block()).isEmpty();
+		assertThat(this.cache.getVersion()).isNotEqualTo(version);
+	}
+
+	@Test
+	void getVersionWhenStaleAndRefreshedWithSameDataDoesNotChange() {
+		this.cache = createCache(MAX_STALENESS);
+		given(this.queries.getProjectDocumentations("spring-boot")).willReturn(Mono.just(getProjectDocumentations()));
+		this.cache.getProjectDocumentations("spring-boot").block();
+		String version = this.cache.getVersion();
+		this.time.addAndGet(TTL.plusSeconds(1).toNanos());
+		this.cache.getProjectDocumentations("spring-boot").block();
+		this.cache.getProjectDocumentations("spring-boot").block();
+		verify(this.queries, times(2)).getProjectDocumentations("spring-boot");
+		assertThat(this.cache.getVersion()).isEqualTo(version);
+	}
+
+	@Test
+	void getVersionWhenStaleAndRefreshedWithDifferentDataChangesOnceVisible() {
+		this.cache = createCache(MAX_STALENESS);
+		given(this.queries.getProjectDocumentations("spring-boot")).willReturn(Mono.just(getProjectDocumentations()),
+				Mono.just(List.of()));
+		this.cache.getProjectDocumentations("spring-boot").block();
+		String version = this.cache.getVersion();
+		this.time.addAndGet(TTL.plusSeconds(1).toNanos());
+		this.cache.getProjectDocumentations("spring-boot").block();
+		assertThat(this.cache.getProjectDocumentations("spring-boot").block()).isEmpty();
+		assertThat(this.cache.getVersion()).isNotEqualTo(version);
+	}
+
+	@Test
+	void getVersionWhenOtherProjectLoadedKeepsCachedResponses() throws Exception {
+		given(this.queries.getProjectDocumentations("spring-boot")).willReturn(Mono.just(getProjectDocumentations()));
+		given(this.queries.getProjectDocumentations("spring-data")).willReturn(Mono.just(List.of()));
+		ResponseCacheFilter filter = new ResponseCacheFilter(this.cache::getVersion, DataSize.ofMegabytes(1), TTL);
+		AtomicInteger renders = new AtomicInteger();
+		HttpServlet servlet = new HttpServlet() {
+
+			@Override
+			protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+				renders.incrementAndGet();
+				List<ProjectDocumentation> documentations = ContentfulQueryCacheTests.this.cache
+						.getProjectDocumentations("spring-boot").block();
+				response.setContentType(MediaTypes.HAL_JSON_VALUE);
+				response.getWriter().print(documentations.size());
+			}
+
+		};
+		String url = "/projects/spring-boot/releases";
+		filter.doFilter(new MockHttpServletRequest("GET", url), new MockHttpServletResponse(),
+				new MockFilterChain(servlet));
+		this.cache.getProjectDocumentations("spring-data").block();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(new MockHttpServletRequest("GET", url), response, new MockFilterChain(servlet));
+		assertThat(renders).hasValue(1);
+		assertThat(response.getContentAsString()).isEqualTo("1");
+	}
+
+	@Test
+	void evictEntryWhenNoSlugRemovesAllCachedData() {
+		given(this.queries.getProjectDocumentations("spring-boot")).willReturn(Mono.just(getProjectDocumentations()));
+		given(this.queries.getProjectDocumentations("spring-data")).willReturn(Mono.just(List.of()));
+		this.cache.getProjectDocumentations("spring-boot").block();
+		this.cache.getProjectDocumentations("spring-data").block();
+		this.cache.evictEntry("1Xe2hJcwSslBa8e1jHAGmd", null);
+		this.cache.getProjectDocumentations("spring-boot").block();
+		this.cache.getProjectDocumentations("spring-data").block();
+		verify(this.queries, times(2)).getProjectDocumentations("spring-boot");
+		verify(this.queries, times(2)).getProjectDocumentations("spring-data");
+	}
+
+	@Test
+	void getProjectDocumentationsWhenStaleReturnsStaleValueAndRefreshes() {
+		this.cache = createCache(MAX_STALENESS);
+		List<ProjectDocumentation> original = getProjectDocumentations();
+		List<ProjectDocumentation> refreshed = List.of();
+		given(this.queries.getProjectDocumentations("spring-boot")).willReturn(Mono.just(original),
+				Mono.just(refreshed));
+		assertThat(this.cache.getProjectDocumentations("spring-boot").block()).isEqualTo(original);
+		this.time.addAndGet(TTL.plusSeconds(1).toNanos());
+		assertThat(this.cache.getProjectDocumentations("spring-boot").block()).isEqualTo(original);
+		assertThat(this.cache.getProjectDocumentations("spring-boot").block()).isEqualTo(refreshed);
+		verify(this.queries, times(2)).getProjectDocumentations("spring-boot");
+	}
+
+	@Test
+	void getProjectDocumentationsWhenStaleAndRefreshFailsReturnsStaleValue() {
+		this.cache = createCache(MAX_STALENESS);
+		List<ProjectDocumentation> original = getProjectDocumentations();
+		given(this.queries.getProjectDocumentations("spring-boot")).willReturn(Mono.just(original))
+				.willReturn(Mono.error(new InvalidContentfulQueryResponseException("Failed")));
+		this.cache.getProjectDocumentations("spring-boot").block();
+		this.time.addAndGet(TTL.plusSeconds(1).toNanos());
+		assertThat(this.cache.getProjectDocumentations("spring-boot").block()).isEqualTo(original);
+		assertThat(this.cache.getProjectDocumentations("spring-boot").block()).isEqualTo(original);
+	}
+
+	@Test
+	void getProjectDocumentationsWhenPastMaxStalenessAndRefreshFailsThrowsException() {
+		this.cache = createCache(MAX_STALENESS);
+		given(this.queries.getProjectDocumentations("spring-boot")).willReturn(Mono.just(getProjectDocumentations()))
+				.willReturn(Mono.error(new InvalidContentfulQueryResponseException("Failed")));
+		this.cache.getProjectDocumentations("spring-boot").block();
+		this.time.addAndGet(TTL.plus(MAX_STALENESS).plusSeconds(1).toNanos());
+		assertThatExceptionOfType(InvalidContentfulQueryResponseException.class)
+				.isThrownBy(() -> this.cache.getProjectDocumentations("spring-boot").block());
+	}
+
+	private ContentfulQueryCache createCache(Duration maxStaleness) {
+		ContentfulCacheSettings settings = new ContentfulCacheSettings(10, TTL, TTL, TTL, TTL, maxStaleness);
+		return new ContentfulQueryCache(this.queries, settings, this.time::get, Runnable::run);
+	}
+
+	private List<ProjectDocumentation> getProjectDocumentations() {
+		return List.of(new ProjectDocumentation("2.3.0", null, null, Status.GENERAL_AVAILABILITY, null, true));
+	}
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.WebClientAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link ContentfulSync}.
+ *
+ * @author Phillip Webb
+ */
+@SpringBootTest
+class ContentfulSyncTests {
+
+	private static final String ACCESS_TOKEN = "000000";
+
+	@Autowired
+	private MockWebServer server;
+
+	@Autowired
+	private WebClient webClient;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private ContentfulSync sync;
+
+	@BeforeEach
+	void setup() {
+		this.sync = new ContentfulSync(this.webClient, ACCESS_TOKEN, this.objectMapper);
+	}
+
+	@Test
+	void applyWhenInitialReturnsAllPages() throws Exception {
+		setupResponse("sync-initial-page-1.json");
+		setupResponse("sync-initial-page-2.json");
+		ProjectCatalog catalog = this.sync.apply(ProjectCatalog.EMPTY);
+		assertThat(catalog.getProjects()).extracting(Project::getSlug).containsExactly("spring-boot", "spring-ws");
+		assertThat(catalog.getProjectDocumentations("spring-boot")).extracting(ProjectDocumentation::getVersion)
+				.containsExactly("2.7.5");
+		assertThat(catalog.getProjectSupports("spring-boot")).extracting(ProjectSupport::getBranch)
+				.containsExactly("2.7.x");
+		assertThat(catalog.getProjectDocumentations("spring-ws")).isEmpty();
+		assertThat(catalog.findSlug("6iTXSEmyYexGCTCAQlFdkv")).isEqualTo("spring-ws");
+		RecordedRequest initial = takeRequest();
+		assertThat(initial.getPath()).isEqualTo("/contentful.com/sync?initial=true&type=Entry&content_type=project");
+		assertThat(initial.getHeader("Authorization")).isEqualTo("Bearer " + ACCESS_TOKEN);
+		assertThat(takeRequest().getPath()).isEqualTo("/contentful.com/sync?sync_token=page%2B2");
+		assertThat(this.sync.getSyncToken()).isEqualTo("delta1");
+	}
+
+	@Test
+	void applyWhenDeltaAppliesChanges() throws Exception {
+		setupResponse("sync-initial-page-1.json");
+		setupResponse("sync-initial-page-2.json");
+		ProjectCatalog catalog = this.sync.apply(ProjectCatalog.EMPTY);
+		takeRequest();
+		takeRequest();
+		setupResponse("sync-delta.json");
+		catalog = this.sync.apply(catalog);
+		assertThat(takeRequest().getPath()).isEqualTo("/contentful.com/sync?sync_token=delta1");
+		assertThat(catalog.getProjects()).extracting(Project::getSlug).containsExactly("spring-boot");
+		assertThat(catalog.getProjectDocumentations("spring-boot")).extracting(ProjectDocumentation::getVersion)
+				.containsExactly("3.0.0");
+		assertThat(catalog.getProjectSupports("spring-boot")).isEmpty();
+		assertThat(this.sync.getSyncToken()).isEqualTo("delta2");
+	}
+
+	@Test
+	void applyWhenErrorThrowsExceptionAndResetsSyncToken() throws Exception {
+		setupResponse("sync-initial-page-1.json");
+		setupResponse("sync-initial-page-2.json");
+		ProjectCatalog catalog = this.sync.apply(ProjectCatalog.EMPTY);
+		takeRequest();
+		takeRequest();
+		this.server.enqueue(new MockResponse().setResponseCode(400));
+		assertThatExceptionOfType(ContentfulException.class).isThrownBy(() -> this.sync.apply(catalog));
+		takeRequest();
+		assertThat(this.sync.getSyncToken()).isNull();
+	}
+
+	private RecordedRequest takeRequest() throws InterruptedException {
+		return this.server.takeRequest(2, TimeUnit.SECONDS);
+	}
+
+	private void setupResponse(String name) throws IOException {
+		try (InputStream inputStream = new ClassPathResource(name, getClass()).getInputStream()) {
+			try (Buffer buffer = new Buffer()) {
+				buffer.readFrom(inputStream);
+				MockResponse response = new MockResponse();
+				response.setBody(buffer);
+				response.setHeader("Content-Type", "application/json");
+				this.server.enqueue(response);
+			}
+		}
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ImportAutoConfiguration({ JacksonAutoConfiguration.class, WebClientAutoConfiguration.class,
+			CodecsAutoConfiguration.class })
+	static class Config {
+
+		@Bean
+		MockWebServer mockWebServer() {
+			return new MockWebServer();
+		}
+
+		@Bean
+		WebClient webClient(MockWebServer mockWebServer, WebClient.Builder webClientBuilder) {
+			HttpUrl baseUrl = mockWebServer.url("/contentful.com");
+			return webClientBuilder.baseUrl(baseUrl.toString()).build();
+		}
+
+	}
+
+}
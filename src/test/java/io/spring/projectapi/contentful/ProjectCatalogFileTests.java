@@ -0,0 +1,82 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.spring.projectapi.contentful.ProjectCatalog.Entry;
+import io.spring.projectapi.contentful.ProjectDocumentation.Status;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ProjectCatalogFile}.
+ *
+ * @author Phillip Webb
+ */
+class ProjectCatalogFileTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+	@TempDir
+	Path temp;
+
+	@Test
+	void writeAndReadReturnsCatalog() {
+		ProjectDocumentation documentation = new ProjectDocumentation("1.0.0", "https://example.com/api",
+				"https://example.com/ref", Status.GENERAL_AVAILABILITY, "RELEASE", true);
+		ProjectSupport support = new ProjectSupport("1.0.x", LocalDate.of(2022, 1, 1), null, LocalDate.of(2023, 1, 1),
+				null, null);
+		Project springBoot = new Project("Spring Boot", "spring-boot", null, Project.Status.ACTIVE);
+		Project springWs = new Project("Spring Web Services", "spring-ws", null, Project.Status.ACTIVE);
+		List<Entry> entries = List.of(new Entry("spring-boot-id", springBoot, List.of(documentation), List.of(support)),
+				new Entry("spring-ws-id", springWs, null, null));
+		ProjectCatalogFile file = new ProjectCatalogFile(this.objectMapper, this.temp.resolve("catalog/catalog.gz"));
+		file.write(ProjectCatalog.of(entries));
+		ProjectCatalog catalog = file.read();
+		assertThat(catalog.getProjects()).extracting(Project::getSlug).containsExactly("spring-boot", "spring-ws");
+		assertThat(catalog.getProject("spring-boot").getTitle()).isEqualTo("Spring Boot");
+		assertThat(catalog.getProjectDocumentations("spring-boot")).singleElement()
+				.satisfies((read) -> assertThat(read.getRef()).isEqualTo("https://example.com/ref"));
+		assertThat(catalog.getProjectSupports("spring-boot")).singleElement()
+				.satisfies((read) -> assertThat(read.getOssPolicyEnd()).isEqualTo("2023-01-01"));
+		assertThat(catalog.getProjectDocumentations("spring-ws")).isEmpty();
+		assertThat(catalog.findSlug("spring-ws-id")).isEqualTo("spring-ws");
+	}
+
+	@Test
+	void readWhenFileDoesNotExistReturnsNull() {
+		ProjectCatalogFile file = new ProjectCatalogFile(this.objectMapper, this.temp.resolve("missing.gz"));
+		assertThat(file.read()).isNull();
+	}
+
+	@Test
+	void readWhenFileIsCorruptReturnsNull() throws IOException {
+		Path path = Files.writeString(this.temp.resolve("corrupt.gz"), "corrupt");
+		ProjectCatalogFile file = new ProjectCatalogFile(this.objectMapper, path);
+		assertThat(file.read()).isNull();
+	}
+
+}
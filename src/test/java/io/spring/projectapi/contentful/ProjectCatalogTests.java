@@ -0,0 +1,123 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import java.util.List;
+
+import io.spring.projectapi.contentful.ProjectCatalog.Entry;
+import io.spring.projectapi.contentful.ProjectDocumentation.Status;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link ProjectCatalog}.
+ *
+ * @author Phillip Webb
+ */
+class ProjectCatalogTests {
+
+	@Test
+	void getProjectsReturnsProjectsInOrder() {
+		ProjectCatalog catalog = ProjectCatalog.of(List.of(entry("spring-boot"), entry("spring-data")));
+		assertThat(catalog.getProjects()).extracting(Project::getSlug).containsExactly("spring-boot", "spring-data");
+	}
+
+	@Test
+	void ofWhenDuplicateSlugUsesFirstEntry() {
+		Entry first = entry("spring-boot");
+		ProjectCatalog catalog = ProjectCatalog.of(List.of(first, entry("spring-boot")));
+		assertThat(catalog.getEntries()).containsExactly(first);
+	}
+
+	@Test
+	void getProjectDocumentationsReturnsDocumentations() {
+		ProjectCatalog catalog = ProjectCatalog.of(List.of(entry("spring-boot")));
+		assertThat(catalog.getProjectDocumentations("spring-boot")).extracting(ProjectDocumentation::getVersion)
+				.containsExactly("1.0.0");
+	}
+
+	@Test
+	void getProjectWhenNoSuchProjectThrowsException() {
+		ProjectCatalog catalog = ProjectCatalog.of(List.of(entry("spring-boot")));
+		assertThatExceptionOfType(NoSuchContentfulProjectException.class)
+				.isThrownBy(() -> catalog.getProject("spring-data"))
+				.satisfies((ex) -> assertThat(ex.getProjectSlug()).isEqualTo("spring-data"));
+	}
+
+	@Test
+	void findEntryIdReturnsEntryId() {
+		ProjectCatalog catalog = ProjectCatalog.of(List.of(entry("spring-boot")));
+		assertThat(catalog.findEntryId("spring-boot")).isEqualTo("spring-boot-id");
+		assertThat(catalog.findEntryId("spring-data")).isNull();
+	}
+
+	@Test
+	void getProjectDocumentationIndexesReturnsIndexOfEachProject() {
+		ProjectCatalog catalog = ProjectCatalog.of(List.of(entry("spring-boot"), entry("spring-data")));
+		assertThat(catalog.getProjectDocumentationIndexes()).containsOnlyKeys("spring-boot", "spring-data");
+		assertThat(catalog.getProjectDocumentationIndexes().get("spring-boot"))
+				.isSameAs(catalog.getProjectDocumentationIndex("spring-boot"));
+	}
+
+	@Test
+	void withEntryReplacesExistingEntry() {
+		ProjectCatalog catalog = ProjectCatalog.of(List.of(entry("spring-boot"), entry("spring-data")));
+		Entry replacement = new Entry("spring-boot-id", project("spring-boot"), null, null);
+		ProjectCatalog updated = catalog.withEntry(replacement);
+		assertThat(updated.getProjectDocumentations("spring-boot")).isEmpty();
+		assertThat(updated.getProjects()).extracting(Project::getSlug).containsExactly("spring-boot", "spring-data");
+		assertThat(catalog.getProjectDocumentations("spring-boot")).hasSize(1);
+	}
+
+	@Test
+	void withoutEntryRemovesEntry() {
+		ProjectCatalog catalog = ProjectCatalog.of(List.of(entry("spring-boot"), entry("spring-data")));
+		ProjectCatalog updated = catalog.withoutEntry("spring-boot");
+		assertThat(updated.getProjects()).extracting(Project::getSlug).containsExactly("spring-data");
+		assertThat(catalog.getProjects()).hasSize(2);
+	}
+
+	@Test
+	void withChangesAppliesChangesAndDeletions() {
+		ProjectCatalog catalog = ProjectCatalog.of(List.of(entry("spring-boot"), entry("spring-data")));
+		Entry renamed = new Entry("spring-boot-id", project("spring-boot-renamed"), null, null);
+		ProjectCatalog updated = catalog.withChanges(List.of(renamed, entry("spring-ws")), List.of("spring-data-id"));
+		assertThat(updated.getProjects()).extracting(Project::getSlug).containsExactly("spring-boot-renamed",
+				"spring-ws");
+		assertThat(updated.findSlug("spring-boot-id")).isEqualTo("spring-boot-renamed");
+		assertThat(catalog.getProjects()).hasSize(2);
+	}
+
+	@Test
+	void withChangesWhenNoChangesReturnsSameInstance() {
+		ProjectCatalog catalog = ProjectCatalog.of(List.of(entry("spring-boot")));
+		assertThat(catalog.withChanges(List.of(), List.of())).isSameAs(catalog);
+	}
+
+	private Entry entry(String slug) {
+		ProjectDocumentation documentation = new ProjectDocumentation("1.0.0", null, null,
+				Status.GENERAL_AVAILABILITY, null, true);
+		return new Entry(slug + "-id", project(slug), List.of(documentation), List.of());
+	}
+
+	private Project project(String slug) {
+		return new Project(slug, slug, null, Project.Status.ACTIVE);
+	}
+
+}
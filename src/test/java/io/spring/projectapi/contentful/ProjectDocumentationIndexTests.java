@@ -0,0 +1,103 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import java.util.List;
+
+import io.spring.projectapi.contentful.ProjectDocumentation.Status;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ProjectDocumentationIndex}.
+ *
+ * @author Phillip Webb
+ */
+class ProjectDocumentationIndexTests {
+
+	private final ProjectDocumentationIndex index = ProjectDocumentationIndex
+			.of(List.of(documentation("3.0.0", Status.GENERAL_AVAILABILITY, true),
+					documentation("3.1.0-RC1", Status.PRERELEASE, false),
+					documentation("3.1.0-SNAPSHOT", Status.SNAPSHOT, false),
+					documentation("2.7.0", Status.GENERAL_AVAILABILITY, false)));
+
+	@Test
+	void getDocumentationsReturnsDocumentationsNewestFirst() {
+		assertThat(this.index.getDocumentations()).extracting(ProjectDocumentation::getVersion)
+				.containsExactly("3.1.0-SNAPSHOT", "3.1.0-RC1", "3.0.0", "2.7.0");
+	}
+
+	@Test
+	void getDocumentationsWithStatusReturnsMatchingDocumentations() {
+		assertThat(this.index.getDocumentations(Status.GENERAL_AVAILABILITY))
+				.extracting(ProjectDocumentation::getVersion).containsExactly("3.0.0", "2.7.0");
+		assertThat(this.index.getDocumentations(Status.SNAPSHOT)).extracting(ProjectDocumentation::getVersion)
+				.containsExactly("3.1.0-SNAPSHOT");
+	}
+
+	@Test
+	void getDocumentationsWithRangeReturnsDocumentationsInRange() {
+		ReleaseVersionRange range = ReleaseVersionRange.parse("[3.0.0,3.1.0)");
+		assertThat(this.index.getDocumentations(null, range)).extracting(ProjectDocumentation::getVersion)
+				.containsExactly("3.1.0-SNAPSHOT", "3.1.0-RC1", "3.0.0");
+	}
+
+	@Test
+	void getDocumentationsWithStatusAndRangeReturnsMatchingDocumentations() {
+		ReleaseVersionRange range = ReleaseVersionRange.parse("2.8.0");
+		assertThat(this.index.getDocumentations(Status.GENERAL_AVAILABILITY, range))
+				.extracting(ProjectDocumentation::getVersion).containsExactly("3.0.0");
+	}
+
+	@Test
+	void getDocumentationsWhenNothingInRangeReturnsEmptyList() {
+		ReleaseVersionRange range = ReleaseVersionRange.parse("[1.0.0,2.0.0]");
+		assertThat(this.index.getDocumentations(null, range)).isEmpty();
+	}
+
+	@Test
+	void findReturnsDocumentationForVersion() {
+		assertThat(this.index.find("3.1.0-RC1").getStatus()).isEqualTo(Status.PRERELEASE);
+		assertThat(this.index.contains("3.1.0-RC1")).isTrue();
+	}
+
+	@Test
+	void findWhenNoSuchVersionReturnsNull() {
+		assertThat(this.index.find("4.0.0")).isNull();
+		assertThat(this.index.contains("4.0.0")).isFalse();
+	}
+
+	@Test
+	void getCurrentReturnsCurrentDocumentation() {
+		assertThat(this.index.getCurrent().getVersion()).isEqualTo("3.0.0");
+	}
+
+	@Test
+	void ofWhenEmptyReturnsEmptyIndex() {
+		ProjectDocumentationIndex index = ProjectDocumentationIndex.of(null);
+		assertThat(index.getDocumentations()).isEmpty();
+		assertThat(index.getDocumentations(Status.SNAPSHOT)).isEmpty();
+		assertThat(index.getCurrent()).isNull();
+	}
+
+	private ProjectDocumentation documentation(String version, Status status, boolean current) {
+		return new ProjectDocumentation(version, "https://example.com/api", "https://example.com/ref", status,
+				"spring-releases", current);
+	}
+
+}
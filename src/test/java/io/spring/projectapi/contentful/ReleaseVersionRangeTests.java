@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link ReleaseVersionRange}.
+ *
+ * @author Phillip Webb
+ */
+class ReleaseVersionRangeTests {
+
+	@Test
+	void parseWhenSingleVersionMatchesVersionAndNewer() {
+		ReleaseVersionRange range = ReleaseVersionRange.parse("2.7.0");
+		assertThat(range.contains(ReleaseVersion.of("2.7.0"))).isTrue();
+		assertThat(range.contains(ReleaseVersion.of("3.0.0"))).isTrue();
+		assertThat(range.contains(ReleaseVersion.of("2.7.0-RC1"))).isFalse();
+		assertThat(range.contains(ReleaseVersion.of("2.6.5"))).isFalse();
+	}
+
+	@Test
+	void parseWhenIntervalRespectsBounds() {
+		ReleaseVersionRange range = ReleaseVersionRange.parse("(2.7.0,3.0.0]");
+		assertThat(range.contains(ReleaseVersion.of("2.7.0"))).isFalse();
+		assertThat(range.contains(ReleaseVersion.of("2.7.1"))).isTrue();
+		assertThat(range.contains(ReleaseVersion.of("3.0.0"))).isTrue();
+		assertThat(range.contains(ReleaseVersion.of("3.0.1"))).isFalse();
+	}
+
+	@Test
+	void parseWhenInvalidThrowsException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> ReleaseVersionRange.parse("[2.7.0"))
+				.withMessage("Invalid version range '[2.7.0'");
+		assertThatIllegalArgumentException().isThrownBy(() -> ReleaseVersionRange.parse("[2.7.0,]"));
+		assertThatIllegalArgumentException().isThrownBy(() -> ReleaseVersionRange.parse("[3.0.0,2.7.0]"));
+		assertThatIllegalArgumentException().isThrownBy(() -> ReleaseVersionRange.parse("latest"));
+	}
+
+	@Test
+	void parseWhenOnlyBracketsThrowsException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> ReleaseVersionRange.parse("["))
+				.withMessage("Invalid version range '['");
+		assertThatIllegalArgumentException().isThrownBy(() -> ReleaseVersionRange.parse("("));
+		assertThatIllegalArgumentException().isThrownBy(() -> ReleaseVersionRange.parse("[]"));
+		assertThatIllegalArgumentException().isThrownBy(() -> ReleaseVersionRange.parse("()"));
+	}
+
+	@Test
+	void toStringReturnsRange() {
+		assertThat(ReleaseVersionRange.parse(" [2.7.0,3.0.0) ")).hasToString("[2.7.0,3.0.0)");
+		assertThat(ReleaseVersionRange.parse("2.7.0")).hasToString("2.7.0");
+	}
+
+}
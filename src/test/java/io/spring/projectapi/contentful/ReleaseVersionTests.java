@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.contentful;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.spring.projectapi.contentful.ReleaseVersion.Type;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link ReleaseVersion}.
+ *
+ * @author Phillip Webb
+ */
+class ReleaseVersionTests {
+
+	@Test
+	void ofWhenVersionIsNullThrowsException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> ReleaseVersion.of(null))
+				.withMessage("'version' must not be null");
+	}
+
+	@Test
+	void ofParsesNumbers() {
+		ReleaseVersion version = ReleaseVersion.of("3.1.2-RC1");
+		assertThat(version.isNumeric()).isTrue();
+		assertThat(version.getMajor()).isEqualTo(3);
+		assertThat(version.getMinor()).isEqualTo(1);
+		assertThat(version.getPatch()).isEqualTo(2);
+	}
+
+	@Test
+	void ofWhenShortVersionParsesNumbers() {
+		ReleaseVersion version = ReleaseVersion.of("2022.0");
+		assertThat(version.getMajor()).isEqualTo(2022);
+		assertThat(version.getMinor()).isEqualTo(0);
+		assertThat(version.getPatch()).isEqualTo(0);
+	}
+
+	@Test
+	void ofWhenReleaseTrainIsNotNumeric() {
+		ReleaseVersion version = ReleaseVersion.of("Camden.SR5");
+		assertThat(version.isNumeric()).isFalse();
+		assertThat(version.getType()).isEqualTo(Type.RELEASE);
+	}
+
+	@Test
+	void ofClassifiesType() {
+		assertThat(ReleaseVersion.of("1.2.3").getType()).isEqualTo(Type.RELEASE);
+		assertThat(ReleaseVersion.of("1.2.3-M4").getType()).isEqualTo(Type.MILESTONE);
+		assertThat(ReleaseVersion.of("1.2.3.RC2").getType()).isEqualTo(Type.RELEASE_CANDIDATE);
+		assertThat(ReleaseVersion.of("1.2.3-SNAPSHOT").getType()).isEqualTo(Type.SNAPSHOT);
+		assertThat(ReleaseVersion.of("1.2.3.BUILD-SNAPSHOT").getType()).isEqualTo(Type.SNAPSHOT);
+	}
+
+	@Test
+	void ofReturnsSameInstanceForSameVersion() {
+		assertThat(ReleaseVersion.of(new String("1.2.3"))).isSameAs(ReleaseVersion.of(new String("1.2.3")));
+	}
+
+	@Test
+	void compareToOrdersVersions() {
+		List<ReleaseVersion> versions = new ArrayList<>();
+		for (String version : List.of("2.0.0", "1.10.0", "1.2.0-SNAPSHOT", "1.2.0-RC1", "1.2.0-M10", "1.2.0-M2",
+				"1.2.0", "1.2.1", "Camden.SR5")) {
+			versions.add(ReleaseVersion.of(version));
+		}
+		Collections.shuffle(versions);
+		Collections.sort(versions);
+		assertThat(versions).extracting(ReleaseVersion::toString).containsExactly("Camden.SR5", "1.2.0-M2",
+				"1.2.0-M10", "1.2.0-RC1", "1.2.0-SNAPSHOT", "1.2.0", "1.2.1", "1.10.0", "2.0.0");
+	}
+
+}
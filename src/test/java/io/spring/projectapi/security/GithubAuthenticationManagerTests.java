@@ -16,6 +16,11 @@
 
 package io.spring.projectapi.security;
 
+import java.time.Duration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -26,6 +31,7 @@ import org.springframework.http.MediaType;
 import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.test.web.client.ExpectedCount;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.util.Base64Utils;
 
@@ -92,6 +98,54 @@ class GithubAuthenticationManagerTests {
 		this.server.verify();
 	}
 
+	@Test
+	void authenticateWhenHasApiUrlUsesApiUrl() {
+		MockServerRestTemplateCustomizer mockServerCustomizer = new MockServerRestTemplateCustomizer();
+		this.authenticationManager = new GithubAuthenticationManager(new RestTemplateBuilder(mockServerCustomizer),
+				"https://github.example.com/api/v3", "test-org", "test-team");
+		MockRestServiceServer server = mockServerCustomizer.getServer();
+		server.expect(requestTo("https://github.example.com/api/v3/orgs/test-org/teams/test-team/memberships/user"))
+				.andRespond(withSuccess(getResponse("active"), MediaType.APPLICATION_JSON));
+		Authentication authentication = new TestingAuthenticationToken("user", "password");
+		Authentication adminAuthentication = this.authenticationManager.authenticate(authentication);
+		assertThat(adminAuthentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+				.containsExactly("ROLE_ADMIN");
+		server.verify();
+	}
+
+	@Test
+	void authenticateRecordsTimer() {
+		MockServerRestTemplateCustomizer mockServerCustomizer = new MockServerRestTemplateCustomizer();
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		this.authenticationManager = new GithubAuthenticationManager(new RestTemplateBuilder(mockServerCustomizer),
+				"https://api.github.com", "test-org", "test-team", meterRegistry, null);
+		MockRestServiceServer server = mockServerCustomizer.getServer();
+		server.expect(requestTo(MEMBER_PATH_TEMPLATE)).andRespond(withStatus(HttpStatus.NOT_FOUND));
+		this.authenticationManager.authenticate(new TestingAuthenticationToken("user", "password"));
+		Timer timer = meterRegistry.get("github.membership.requests").tag("outcome", "NOT_FOUND").tag("status", "404")
+				.timer();
+		assertThat(timer.count()).isEqualTo(1);
+		server.verify();
+	}
+
+	@Test
+	void authenticateWhenHasMembershipCacheCallsGithubOnce() {
+		MockServerRestTemplateCustomizer mockServerCustomizer = new MockServerRestTemplateCustomizer();
+		GithubMembershipCache membershipCache = new GithubMembershipCache(100, Duration.ofMinutes(5),
+				Duration.ofSeconds(30));
+		this.authenticationManager = new GithubAuthenticationManager(new RestTemplateBuilder(mockServerCustomizer),
+				"https://api.github.com", "test-org", "test-team", new SimpleMeterRegistry(), membershipCache);
+		MockRestServiceServer server = mockServerCustomizer.getServer();
+		server.expect(ExpectedCount.once(), requestTo(MEMBER_PATH_TEMPLATE))
+				.andRespond(withSuccess(getResponse("active"), MediaType.APPLICATION_JSON));
+		for (int i = 0; i < 3; i++) {
+			Authentication authentication = new TestingAuthenticationToken("user", "password");
+			assertThat(this.authenticationManager.authenticate(authentication).getAuthorities())
+					.extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+		}
+		server.verify();
+	}
+
 	private static String getResponse(String state) {
 		// @formatter:off
 		return
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.security;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link GithubMembershipCache}.
+ *
+ * @author Phillip Webb
+ */
+class GithubMembershipCacheTests {
+
+	private final AtomicLong nanos = new AtomicLong();
+
+	private final AtomicInteger lookups = new AtomicInteger();
+
+	private final GithubMembershipCache cache = new GithubMembershipCache(100, Duration.ofMinutes(5),
+			Duration.ofSeconds(30), this.nanos::get);
+
+	@Test
+	void isMemberWhenCachedDoesNotLookup() {
+		assertThat(this.cache.isMember("user", "token", () -> lookup(true))).isTrue();
+		assertThat(this.cache.isMember("user", "token", () -> lookup(false))).isTrue();
+		assertThat(this.lookups).hasValue(1);
+	}
+
+	@Test
+	void isMemberWhenDifferentTokenLooksUp() {
+		assertThat(this.cache.isMember("user", "token", () -> lookup(true))).isTrue();
+		assertThat(this.cache.isMember("user", "other", () -> lookup(false))).isFalse();
+		assertThat(this.lookups).hasValue(2);
+	}
+
+	@Test
+	void isMemberWhenMemberDecisionExpiredLooksUp() {
+		this.cache.isMember("user", "token", () -> lookup(true));
+		advance(Duration.ofMinutes(4));
+		this.cache.isMember("user", "token", () -> lookup(true));
+		assertThat(this.lookups).hasValue(1);
+		advance(Duration.ofMinutes(2));
+		this.cache.isMember("user", "token", () -> lookup(true));
+		assertThat(this.lookups).hasValue(2);
+	}
+
+	@Test
+	void isMemberWhenNonMemberDecisionExpiredLooksUp() {
+		this.cache.isMember("user", "token", () -> lookup(false));
+		advance(Duration.ofSeconds(20));
+		this.cache.isMember("user", "token", () -> lookup(false));
+		assertThat(this.lookups).hasValue(1);
+		advance(Duration.ofSeconds(20));
+		assertThat(this.cache.isMember("user", "token", () -> lookup(true))).isTrue();
+		assertThat(this.lookups).hasValue(2);
+	}
+
+	@Test
+	void isMemberWhenLookupFailsDoesNotCache() {
+		assertThatIllegalStateException().isThrownBy(() -> this.cache.isMember("user", "token", () -> {
+			throw new IllegalStateException("Failed");
+		}));
+		assertThat(this.cache.isMember("user", "token", () -> lookup(true))).isTrue();
+		assertThat(this.lookups).hasValue(1);
+	}
+
+	private boolean lookup(boolean member) {
+		this.lookups.incrementAndGet();
+		return member;
+	}
+
+	private void advance(Duration duration) {
+		this.nanos.addAndGet(duration.toNanos());
+	}
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.security;
+
+import io.spring.projectapi.test.WebApiTest;
+import io.spring.projectapi.web.repository.RepositoriesController;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests for {@link SecurityConfiguration}.
+ *
+ * @author Phillip Webb
+ */
+@WebApiTest(RepositoriesController.class)
+class SecurityConfigurationTests {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Test
+	void getMetricsWhenAnonymousReturnsUnauthorized() throws Exception {
+		this.mvc.perform(get("/actuator/metrics")).andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	void getPrometheusWhenAnonymousReturnsUnauthorized() throws Exception {
+		this.mvc.perform(get("/actuator/prometheus")).andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	@WithMockUser(roles = "ADMIN")
+	void getMetricsWhenHasAdminRoleIsNotRejected() throws Exception {
+		// Actuator endpoints are not part of the test slice so a 404 means access was
+		// granted
+		this.mvc.perform(get("/actuator/metrics")).andExpect(status().isNotFound());
+	}
+
+	@Test
+	void getHealthWhenAnonymousIsNotRejected() throws Exception {
+		this.mvc.perform(get("/actuator/health")).andExpect(status().isNotFound());
+	}
+
+	@Test
+	void getApiWhenAnonymousIsPermitted() throws Exception {
+		this.mvc.perform(get("/repositories")).andExpect(status().isOk());
+	}
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ApiLinks}.
+ *
+ * @author Phillip Webb
+ */
+class ApiLinksTests {
+
+	private final ApiLinks links = ApiLinks.of("https://api.spring.io/");
+
+	@AfterEach
+	void resetRequest() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void projectTemplateReturnsTemplatedLink() {
+		Link link = this.links.projectTemplate();
+		assertThat(link.getHref()).isEqualTo("https://api.spring.io/projects/{id}");
+		assertThat(link.isTemplated()).isTrue();
+	}
+
+	@Test
+	void projectLinksReturnLinks() {
+		assertThat(this.links.project("spring-boot").getHref()).isEqualTo("https://api.spring.io/projects/spring-boot");
+		assertThat(this.links.releases("spring-boot").getHref())
+				.isEqualTo("https://api.spring.io/projects/spring-boot/releases");
+		assertThat(this.links.release("spring-boot", "3.0.0-M1").getHref())
+				.isEqualTo("https://api.spring.io/projects/spring-boot/releases/3.0.0-M1");
+		assertThat(this.links.currentRelease("spring-boot").getHref())
+				.isEqualTo("https://api.spring.io/projects/spring-boot/releases/current");
+		assertThat(this.links.generations("spring-boot").getHref())
+				.isEqualTo("https://api.spring.io/projects/spring-boot/generations");
+		assertThat(this.links.generation("spring-boot", "3.0.x").getHref())
+				.isEqualTo("https://api.spring.io/projects/spring-boot/generations/3.0.x");
+		assertThat(this.links.repository("spring-releases").getHref())
+				.isEqualTo("https://api.spring.io/repositories/spring-releases");
+	}
+
+	@Test
+	void linksEncodePathSegments() {
+		Link link = this.links.release("spring boot", "1.0/2");
+		assertThat(link.getHref()).isEqualTo("https://api.spring.io/projects/spring%20boot/releases/1.0%2F2");
+		assertThat(link.isTemplated()).isFalse();
+	}
+
+	@Test
+	void forCurrentRequestUsesRequestBaseUri() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setScheme("https");
+		request.setServerName("example.com");
+		request.setServerPort(8443);
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+		Link link = ApiLinks.forCurrentRequest().project("spring-boot").withSelfRel();
+		assertThat(link.getHref()).isEqualTo("https://example.com:8443/projects/spring-boot");
+		assertThat(link.hasRel(IanaLinkRelations.SELF)).isTrue();
+	}
+
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ResponseCacheFilter}.
+ *
+ * @author Phillip Webb
+ */
+class ResponseCacheFilterTests {
+
+	private static final String BODY = "{\"name\":\"Spring Boot\",\"description\":\"" + "Spring Boot ".repeat(20)
+			+ "\"}";
+
+	private static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+
+	private final AtomicInteger invocations = new AtomicInteger();
+
+	private final AtomicLong time = new AtomicLong();
+
+	private String version = "1";
+
+	private String body = BODY;
+
+	private int status = HttpServletResponse.SC_OK;
+
+	private ResponseCacheFilter filter;
+
+	@BeforeEach
+	void setup() {
+		this.filter = new ResponseCacheFilter(() -> this.version, DataSize.ofMegabytes(1), TIME_TO_LIVE,
+				this.time::get);
+	}
+
+	@Test
+	void getWhenCachedDoesNotRenderAgain() throws Exception {
+		MockHttpServletResponse first = perform(get());
+		MockHttpServletResponse second = perform(get());
+		assertThat(this.invocations).hasValue(1);
+		assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo(BODY);
+		assertThat(second.getContentType()).isEqualTo(MediaTypes.HAL_JSON_VALUE);
+		assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo("\"1\"");
+	}
+
+	@Test
+	void getWhenVersionChangesRendersAgain() throws Exception {
+		perform(get());
+		this.version = "2";
+		MockHttpServletResponse response = perform(get());
+		assertThat(this.invocations).hasValue(2);
+		assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"2\"");
+	}
+
+	@Test
+	void getWhenDataChangedAfterTimeToLiveAndVersionUnchangedRendersAgain() throws Exception {
+		perform(get());
+		this.body = BODY.replace("Spring Boot", "Spring Framework");
+		this.time.addAndGet(TIME_TO_LIVE.plusSeconds(1).toNanos());
+		MockHttpServletResponse response = perform(get());
+		assertThat(this.invocations).hasValue(2);
+		assertThat(response.getContentAsString()).isEqualTo(this.body);
+	}
+
+	@Test
+	void getWhenDifferentAcceptHeaderRendersAgain() throws Exception {
+		perform(get());
+		MockHttpServletRequest request = get();
+		request.addHeader(HttpHeaders.ACCEPT, "application/json");
+		perform(request);
+		assertThat(this.invocations).hasValue(2);
+	}
+
+	@Test
+	void getWhenNoVersionDoesNotCache() throws Exception {
+		this.version = null;
+		perform(get());
+		perform(get());
+		assertThat(this.invocations).hasValue(2);
+	}
+
+	@Test
+	void getWhenNotOkDoesNotCache() throws Exception {
+		this.status = HttpServletResponse.SC_NOT_FOUND;
+		perform(get());
+		MockHttpServletResponse response = perform(get());
+		assertThat(this.invocations).hasValue(2);
+		assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_FOUND);
+	}
+
+	@Test
+	void postDoesNotCache() throws Exception {
+		perform(new MockHttpServletRequest("POST", "/projects"));
+		perform(new MockHttpServletRequest("POST", "/projects"));
+		assertThat(this.invocations).hasValue(2);
+	}
+
+	@Test
+	void getWhenAcceptsGzipReturnsCompressedBody() throws Exception {
+		perform(get());
+		MockHttpServletRequest request = get();
+		request.addHeader(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8");
+		MockHttpServletResponse response = perform(request);
+		assertThat(this.invocations).hasValue(1);
+		assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+		assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"1-gzip\"");
+		assertThat(response.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+		assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(BODY);
+	}
+
+	@Test
+	void getWhenGzipRejectedReturnsUncompressedBody() throws Exception {
+		MockHttpServletRequest request = get();
+		request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0");
+		MockHttpServletResponse response = perform(request);
+		assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+		assertThat(response.getContentAsString()).isEqualTo(BODY);
+	}
+
+	@Test
+	void getWhenCachedAndNotModifiedReturns304() throws Exception {
+		perform(get());
+		MockHttpServletRequest request = get();
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"1\"");
+		MockHttpServletResponse response = perform(request);
+		assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+		assertThat(response.getContentAsByteArray()).isEmpty();
+	}
+
+	private MockHttpServletRequest get() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/projects");
+		request.addHeader(HttpHeaders.ACCEPT, MediaTypes.HAL_JSON_VALUE);
+		return request;
+	}
+
+	private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		this.filter.doFilter(request, response, new MockFilterChain(new RenderingServlet()));
+		return response;
+	}
+
+	private String gunzip(byte[] content) throws IOException {
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	/**
+	 * Servlet that renders a response in the same way as a controller.
+	 */
+	class RenderingServlet extends HttpServlet {
+
+		@Override
+		protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+			ResponseCacheFilterTests.this.invocations.incrementAndGet();
+			response.setStatus(ResponseCacheFilterTests.this.status);
+			response.setContentType(MediaTypes.HAL_JSON_VALUE);
+			if (ResponseCacheFilterTests.this.version != null) {
+				response.setHeader(HttpHeaders.ETAG, "\"" + ResponseCacheFilterTests.this.version + "\"");
+			}
+			response.getOutputStream().write(ResponseCacheFilterTests.this.body.getBytes(StandardCharsets.UTF_8));
+		}
+
+	}
+
+}
@@ -20,21 +20,28 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
-import io.spring.projectapi.contentful.ContentfulService;
 import io.spring.projectapi.contentful.NoSuchContentfulProjectException;
 import io.spring.projectapi.contentful.ProjectSupport;
+import io.spring.projectapi.contentful.ReactiveContentfulService;
 import io.spring.projectapi.test.WebApiTest;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 
 import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -43,19 +50,20 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * @author Madhura Bhave
  * @author Phillip Webb
  */
-@WebApiTest
+@WebApiTest(GenerationsController.class)
 class GenerationsControllerTests {
 
 	@Autowired
 	private MockMvc mvc;
 
 	@MockBean
-	private ContentfulService contentfulService;
+	private ReactiveContentfulService contentfulService;
 
 	@Test
 	void generationsReturnsGenerations() throws Exception {
-		given(this.contentfulService.getProjectSupports("spring-boot")).willReturn(getProjectSupports());
-		this.mvc.perform(get("/projects/spring-boot/generations").accept(MediaTypes.HAL_JSON)).andDo(print())
+		given(this.contentfulService.getProjectSupports("spring-boot"))
+				.willReturn(Flux.fromIterable(getProjectSupports()));
+		performAsync(get("/projects/spring-boot/generations").accept(MediaTypes.HAL_JSON)).andDo(print())
 				.andExpect(status().isOk()).andExpect(jsonPath("$._embedded.generations.length()").value("2"))
 				.andExpect(jsonPath("$._embedded.generations[0].name").value("2.2.x"))
 				.andExpect(jsonPath("$._embedded.generations[0].initialReleaseDate").value("2020-02-01"))
@@ -76,10 +84,29 @@ class GenerationsControllerTests {
 				.andExpect(jsonPath("$._links.project.href").value("http://localhost/projects/spring-boot"));
 	}
 
+	@Test
+	void generationsWhenNotModifiedReturns304() throws Exception {
+		given(this.contentfulService.getVersion()).willReturn("1");
+		given(this.contentfulService.getProjectSupports("spring-boot"))
+				.willReturn(Flux.fromIterable(getProjectSupports()));
+		performAsync(get("/projects/spring-boot/generations").accept(MediaTypes.HAL_JSON)
+				.header(HttpHeaders.IF_NONE_MATCH, "\"1\"")).andExpect(status().isNotModified());
+	}
+
+	@Test
+	void generationsWhenNotModifiedAndProjectNotFoundReturns404() throws Exception {
+		given(this.contentfulService.getVersion()).willReturn("1");
+		given(this.contentfulService.getProjectSupports("spring-boot"))
+				.willThrow(NoSuchContentfulProjectException.class);
+		this.mvc.perform(get("/projects/spring-boot/generations").accept(MediaTypes.HAL_JSON)
+				.header(HttpHeaders.IF_NONE_MATCH, "\"1\"")).andExpect(status().isNotFound());
+	}
+
 	@Test
 	void generationReturnsGeneration() throws Exception {
-		given(this.contentfulService.getProjectSupports("spring-boot")).willReturn(getProjectSupports());
-		this.mvc.perform(get("/projects/spring-boot/generations/2.2.x").accept(MediaTypes.HAL_JSON))
+		given(this.contentfulService.getProjectSupports("spring-boot"))
+				.willReturn(Flux.fromIterable(getProjectSupports()));
+		performAsync(get("/projects/spring-boot/generations/2.2.x").accept(MediaTypes.HAL_JSON))
 				.andExpect(status().isOk()).andExpect(jsonPath("$.name").value("2.2.x"))
 				.andExpect(
 						jsonPath("$._links.self.href").value("http://localhost/projects/spring-boot/generations/2.2.x"))
@@ -94,6 +121,19 @@ class GenerationsControllerTests {
 				.andExpect(status().isNotFound());
 	}
 
+	@Test
+	void generationWhenNoSuchGenerationReturns404() throws Exception {
+		given(this.contentfulService.getProjectSupports("spring-boot"))
+				.willReturn(Flux.fromIterable(getProjectSupports()));
+		performAsync(get("/projects/spring-boot/generations/1.0.x").accept(MediaTypes.HAL_JSON))
+				.andExpect(status().isNotFound());
+	}
+
+	private ResultActions performAsync(RequestBuilder requestBuilder) throws Exception {
+		MvcResult result = this.mvc.perform(requestBuilder).andExpect(request().asyncStarted()).andReturn();
+		return this.mvc.perform(asyncDispatch(result));
+	}
+
 	private List<ProjectSupport> getProjectSupports() {
 		List<ProjectSupport> result = new ArrayList<>();
 		result.add(new ProjectSupport("2.2.x", LocalDate.parse("2020-02-01"), LocalDate.parse("2020-02-02"),
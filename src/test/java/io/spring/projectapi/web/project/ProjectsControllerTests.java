@@ -16,23 +16,39 @@
 
 package io.spring.projectapi.web.project;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
-import io.spring.projectapi.contentful.ContentfulService;
 import io.spring.projectapi.contentful.NoSuchContentfulProjectException;
 import io.spring.projectapi.contentful.Project.Status;
+import io.spring.projectapi.contentful.ProjectDocumentation;
+import io.spring.projectapi.contentful.ProjectDocumentationIndex;
+import io.spring.projectapi.contentful.ProjectSupport;
+import io.spring.projectapi.contentful.ReactiveContentfulService;
 import io.spring.projectapi.test.WebApiTest;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -41,19 +57,19 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * @author Madhura Bhave
  * @author Phillip Webb
  */
-@WebApiTest
+@WebApiTest(ProjectsController.class)
 class ProjectsControllerTests {
 
 	@Autowired
 	private MockMvc mvc;
 
 	@MockBean
-	private ContentfulService contentfulService;
+	private ReactiveContentfulService contentfulService;
 
 	@Test
 	void projectsReturnsProjects() throws Exception {
-		given(this.contentfulService.getProjects()).willReturn(getProjects());
-		this.mvc.perform(get("/projects").accept(MediaTypes.HAL_JSON)).andExpect(status().isOk())
+		given(this.contentfulService.getProjects()).willReturn(Flux.fromIterable(getProjects()));
+		performAsync(get("/projects").accept(MediaTypes.HAL_JSON)).andExpect(status().isOk())
 				.andExpect(jsonPath("$._embedded.projects.length()").value("2"))
 				.andExpect(jsonPath("$._embedded.projects[0].name").value("Spring Boot"))
 				.andExpect(jsonPath("$._embedded.projects[0].id").value("spring-boot"))
@@ -81,6 +97,87 @@ class ProjectsControllerTests {
 				.andExpect(jsonPath("$._links.project.templated").value(true));
 	}
 
+	@Test
+	void projectsWithEmbedReturnsProjectsWithReleasesAndGenerations() throws Exception {
+		given(this.contentfulService.getProjects()).willReturn(Flux.fromIterable(getProjects()));
+		ProjectDocumentation documentation = new ProjectDocumentation("3.0.0", null, null,
+				ProjectDocumentation.Status.GENERAL_AVAILABILITY, null, true);
+		given(this.contentfulService.getProjectDocumentationIndexes()).willReturn(Mono
+				.just(Map.of("spring-boot", ProjectDocumentationIndex.of(List.of(documentation)))));
+		ProjectSupport support = new ProjectSupport("3.0.x", LocalDate.of(2022, 11, 24), null,
+				LocalDate.of(2023, 11, 24), null, LocalDate.of(2025, 2, 24));
+		given(this.contentfulService.getAllProjectSupports())
+				.willReturn(Mono.just(Map.of("spring-boot", List.of(support))));
+		performAsync(get("/projects?embed=releases,generations").accept(MediaTypes.HAL_JSON))
+				.andExpect(status().isOk()).andExpect(jsonPath("$._embedded.projects.length()").value("2"))
+				.andExpect(jsonPath("$._embedded.projects[0].id").value("spring-boot"))
+				.andExpect(jsonPath("$._embedded.projects[0]._links.self.href")
+						.value("http://localhost/projects/spring-boot"))
+				.andExpect(jsonPath("$._embedded.projects[0]._embedded.releases[0].version").value("3.0.0"))
+				.andExpect(jsonPath("$._embedded.projects[0]._embedded.releases[0]._links.self.href")
+						.value("http://localhost/projects/spring-boot/releases/3.0.0"))
+				.andExpect(jsonPath("$._embedded.projects[0]._embedded.releases[0]._links.repository.href")
+						.value("http://localhost/repositories/spring-releases"))
+				.andExpect(jsonPath("$._embedded.projects[0]._embedded.generations[0].name").value("3.0.x"))
+				.andExpect(jsonPath("$._embedded.projects[0]._embedded.generations[0]._links.self.href")
+						.value("http://localhost/projects/spring-boot/generations/3.0.x"))
+				.andExpect(jsonPath("$._embedded.projects[0]._embedded.generations[0]._links.project.href")
+						.value("http://localhost/projects/spring-boot"))
+				.andExpect(jsonPath("$._embedded.projects[1]._embedded.releases").isEmpty())
+				.andExpect(jsonPath("$._links.project.href").value("http://localhost/projects/{id}"));
+		verify(this.contentfulService, never()).getProjectDocumentationIndex("spring-boot");
+		verify(this.contentfulService, never()).getProjectSupports("spring-boot");
+	}
+
+	@Test
+	void projectsWithEmbedReleasesDoesNotFetchGenerations() throws Exception {
+		given(this.contentfulService.getProjects()).willReturn(Flux.fromIterable(getProjects()));
+		given(this.contentfulService.getProjectDocumentationIndexes()).willReturn(Mono.just(Map.of()));
+		performAsync(get("/projects?embed=releases").accept(MediaTypes.HAL_JSON)).andExpect(status().isOk())
+				.andExpect(jsonPath("$._embedded.projects[0]._embedded.releases").isEmpty())
+				.andExpect(jsonPath("$._embedded.projects[0]._embedded.generations").doesNotExist());
+		verify(this.contentfulService, never()).getAllProjectSupports();
+	}
+
+	@Test
+	void projectsWithUnknownEmbedReturnsBadRequest() throws Exception {
+		this.mvc.perform(get("/projects?embed=contributors").accept(MediaTypes.HAL_JSON))
+				.andExpect(status().isBadRequest());
+		verify(this.contentfulService, never()).getProjects();
+	}
+
+	@Test
+	void projectsReturnsEntityTag() throws Exception {
+		given(this.contentfulService.getVersion()).willReturn("1");
+		given(this.contentfulService.getProjects()).willReturn(Flux.fromIterable(getProjects()));
+		performAsync(get("/projects").accept(MediaTypes.HAL_JSON)).andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+	}
+
+	@Test
+	void projectsWhenNotModifiedReturns304() throws Exception {
+		given(this.contentfulService.getVersion()).willReturn("1");
+		given(this.contentfulService.getProjects()).willReturn(Flux.fromIterable(getProjects()));
+		performAsync(get("/projects").accept(MediaTypes.HAL_JSON).header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+				.andExpect(status().isNotModified()).andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+	}
+
+	@Test
+	void projectsWhenVersionChangesWhileLoadingHasNoEntityTag() throws Exception {
+		given(this.contentfulService.getVersion()).willReturn("1", "2");
+		given(this.contentfulService.getProjects()).willReturn(Flux.fromIterable(getProjects()));
+		performAsync(get("/projects").accept(MediaTypes.HAL_JSON).header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+				.andExpect(status().isOk()).andExpect(header().doesNotExist(HttpHeaders.ETAG));
+	}
+
+	@Test
+	void projectWhenNotModifiedAndNotFoundReturns404() throws Exception {
+		given(this.contentfulService.getVersion()).willReturn("1");
+		given(this.contentfulService.getProject("does-not-exist")).willThrow(NoSuchContentfulProjectException.class);
+		this.mvc.perform(get("/projects/does-not-exist").accept(MediaTypes.HAL_JSON)
+				.header(HttpHeaders.IF_NONE_MATCH, "\"1\"")).andExpect(status().isNotFound());
+	}
+
 	@Test
 	void projectWhenNotFoundReturns404() throws Exception {
 		given(this.contentfulService.getProject("does-not-exist")).willThrow(NoSuchContentfulProjectException.class);
@@ -89,8 +186,8 @@ class ProjectsControllerTests {
 
 	@Test
 	void projectReturnsProject() throws Exception {
-		given(this.contentfulService.getProject("spring-boot")).willReturn(getProjects().get(0));
-		this.mvc.perform(get("/projects/spring-boot").accept(MediaTypes.HAL_JSON)).andExpect(status().isOk())
+		given(this.contentfulService.getProject("spring-boot")).willReturn(Mono.just(getProjects().get(0)));
+		performAsync(get("/projects/spring-boot").accept(MediaTypes.HAL_JSON)).andExpect(status().isOk())
 				.andExpect(jsonPath("$.name").value("Spring Boot"))
 				.andExpect(jsonPath("$._links.self.href").value("http://localhost/projects/spring-boot"))
 				.andExpect(jsonPath("$._links.releases.href").value("http://localhost/projects/spring-boot/releases"))
@@ -98,6 +195,11 @@ class ProjectsControllerTests {
 						.value("http://localhost/projects/spring-boot/generations"));
 	}
 
+	private ResultActions performAsync(RequestBuilder requestBuilder) throws Exception {
+		MvcResult result = this.mvc.perform(requestBuilder).andExpect(request().asyncStarted()).andReturn();
+		return this.mvc.perform(asyncDispatch(result));
+	}
+
 	private List<io.spring.projectapi.contentful.Project> getProjects() {
 		List<io.spring.projectapi.contentful.Project> projects = new ArrayList<>();
 		projects.add(new io.spring.projectapi.contentful.Project("Spring Boot", "spring-boot",
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.release;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.projectapi.contentful.ContentfulService;
+import io.spring.projectapi.contentful.DocumentationUpdateResult;
+import io.spring.projectapi.contentful.ProjectDocumentation;
+import io.spring.projectapi.test.WebApiTest;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.FileCopyUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests for {@link BulkReleasesController}.
+ *
+ * @author Phillip Webb
+ */
+@WebApiTest(BulkReleasesController.class)
+class BulkReleasesControllerTests {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@MockBean
+	private ContentfulService contentfulService;
+
+	@Test
+	@WithMockUser(roles = "ADMIN")
+	@SuppressWarnings("unchecked")
+	void addAddsReleasesToAllProjects() throws Exception {
+		given(this.contentfulService.addProjectDocumentations(anyMap()))
+				.willReturn(List.of(result("spring-boot", DocumentationUpdateResult.Outcome.UPDATED, null),
+						result("spring-data", DocumentationUpdateResult.Outcome.UPDATED, null)));
+		this.mvc.perform(post("/releases").contentType(MediaType.APPLICATION_JSON).content(from("add-bulk.json")))
+				.andExpect(status().isOk()).andExpect(jsonPath("$[0].project").value("spring-boot"))
+				.andExpect(jsonPath("$[0].outcome").value("CREATED"))
+				.andExpect(jsonPath("$[1].project").value("spring-data"))
+				.andExpect(jsonPath("$[1].outcome").value("CREATED"));
+		ArgumentCaptor<Map<String, List<ProjectDocumentation>>> captor = ArgumentCaptor.forClass(Map.class);
+		verify(this.contentfulService).addProjectDocumentations(captor.capture());
+		Map<String, List<ProjectDocumentation>> added = captor.getValue();
+		assertThat(added).containsOnlyKeys("spring-boot", "spring-data");
+		assertThat(added.get("spring-boot")).extracting(ProjectDocumentation::getVersion).containsExactly("3.0.0",
+				"3.0.1-SNAPSHOT");
+		assertThat(added.get("spring-data")).extracting(ProjectDocumentation::getRepository)
+				.containsExactly("spring-milestones");
+	}
+
+	@Test
+	@WithMockUser(roles = "ADMIN")
+	@SuppressWarnings("unchecked")
+	void addWhenSomeProjectsFailReturnsMultiStatus() throws Exception {
+		given(this.contentfulService.addProjectDocumentations(anyMap()))
+				.willReturn(List.of(result("spring-boot", DocumentationUpdateResult.Outcome.UPDATED, null),
+						result("spring-data", DocumentationUpdateResult.Outcome.NOT_FOUND, "Project not found")));
+		this.mvc.perform(post("/releases").contentType(MediaType.APPLICATION_JSON).content(from("add-bulk.json")))
+				.andExpect(status().isMultiStatus()).andExpect(jsonPath("$[0].outcome").value("CREATED"))
+				.andExpect(jsonPath("$[1].outcome").value("NOT_FOUND"))
+				.andExpect(jsonPath("$[1].message").value("Project not found"));
+	}
+
+	@Test
+	@WithMockUser(roles = "ADMIN")
+	@SuppressWarnings("unchecked")
+	void addWhenProjectReleasesInvalidDoesNotPublishThatProject() throws Exception {
+		given(this.contentfulService.addProjectDocumentations(anyMap()))
+				.willReturn(List.of(result("spring-boot", DocumentationUpdateResult.Outcome.UPDATED, null)));
+		this.mvc.perform(
+				post("/releases").contentType(MediaType.APPLICATION_JSON).content(from("add-bulk-invalid.json")))
+				.andExpect(status().isMultiStatus()).andExpect(jsonPath("$[0].outcome").value("CREATED"))
+				.andExpect(jsonPath("$[1].project").value("spring-data"))
+				.andExpect(jsonPath("$[1].outcome").value("INVALID"));
+		ArgumentCaptor<Map<String, List<ProjectDocumentation>>> captor = ArgumentCaptor.forClass(Map.class);
+		verify(this.contentfulService).addProjectDocumentations(captor.capture());
+		assertThat(captor.getValue()).containsOnlyKeys("spring-boot");
+	}
+
+	@Test
+	void addWhenHasNoAdminRoleReturnsUnauthorized() throws Exception {
+		this.mvc.perform(post("/releases").contentType(MediaType.APPLICATION_JSON).content(from("add-bulk.json")))
+				.andExpect(status().isUnauthorized());
+		verify(this.contentfulService, never()).addProjectDocumentations(any());
+	}
+
+	private DocumentationUpdateResult result(String projectSlug, DocumentationUpdateResult.Outcome outcome,
+			String message) {
+		return new DocumentationUpdateResult(projectSlug, outcome, message);
+	}
+
+	private byte[] from(String path) throws IOException {
+		ClassPathResource resource = new ClassPathResource(path, getClass());
+		try (InputStream inputStream = resource.getInputStream()) {
+			return FileCopyUtils.copyToByteArray(inputStream);
+		}
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.release;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.projectapi.contentful.ProjectDocumentation;
+import io.spring.projectapi.contentful.ProjectDocumentation.Status;
+import io.spring.projectapi.contentful.ProjectDocumentationIndex;
+import io.spring.projectapi.contentful.ReactiveContentfulService;
+import io.spring.projectapi.test.WebApiTest;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests for {@link CurrentReleasesController}.
+ *
+ * @author Phillip Webb
+ */
+@WebApiTest(CurrentReleasesController.class)
+class CurrentReleasesControllerTests {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@MockBean
+	private ReactiveContentfulService contentfulService;
+
+	@Test
+	void currentReleasesReturnsCurrentReleaseOfEachProject() throws Exception {
+		givenProjectDocumentationIndexes();
+		performAsync(get("/releases/current").accept(MediaTypes.HAL_JSON)).andExpect(status().isOk())
+				.andExpect(jsonPath("$._embedded.currentReleases.length()").value(2))
+				.andExpect(jsonPath("$._embedded.currentReleases[0].project").value("spring-boot"))
+				.andExpect(jsonPath("$._embedded.currentReleases[0].current.version").value("3.0.0"))
+				.andExpect(jsonPath("$._embedded.currentReleases[0].latestSnapshot").doesNotExist())
+				.andExpect(jsonPath("$._embedded.currentReleases[0]._links.current.href")
+						.value("http://localhost/projects/spring-boot/releases/3.0.0"))
+				.andExpect(jsonPath("$._embedded.currentReleases[0]._links.project.href")
+						.value("http://localhost/projects/spring-boot"))
+				.andExpect(jsonPath("$._embedded.currentReleases[1].project").value("spring-ws"))
+				.andExpect(jsonPath("$._embedded.currentReleases[1].current").doesNotExist())
+				.andExpect(jsonPath("$._embedded.currentReleases[1]._links.current").doesNotExist());
+		verify(this.contentfulService, never()).getProjectDocumentationIndex("spring-boot");
+	}
+
+	@Test
+	void currentReleasesWithLatestReturnsLatestReleaseOfEachStatus() throws Exception {
+		givenProjectDocumentationIndexes();
+		performAsync(get("/releases/current?latest=true").accept(MediaTypes.HAL_JSON)).andExpect(status().isOk())
+				.andExpect(jsonPath("$._embedded.currentReleases[0].current.version").value("3.0.0"))
+				.andExpect(jsonPath("$._embedded.currentReleases[0].latestGeneralAvailability.version")
+						.value("3.0.0"))
+				.andExpect(jsonPath("$._embedded.currentReleases[0].latestPrerelease.version").value("3.1.0-RC1"))
+				.andExpect(jsonPath("$._embedded.currentReleases[0].latestSnapshot.version").value("3.1.0-SNAPSHOT"))
+				.andExpect(jsonPath("$._embedded.currentReleases[1].latestGeneralAvailability").doesNotExist());
+	}
+
+	@Test
+	void currentReleasesWhenNotModifiedReturns304() throws Exception {
+		given(this.contentfulService.getVersion()).willReturn("1");
+		givenProjectDocumentationIndexes();
+		performAsync(get("/releases/current").accept(MediaTypes.HAL_JSON).header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+				.andExpect(status().isNotModified());
+	}
+
+	private void givenProjectDocumentationIndexes() {
+		Map<String, ProjectDocumentationIndex> indexes = new LinkedHashMap<>();
+		indexes.put("spring-boot",
+				ProjectDocumentationIndex.of(List.of(documentation("3.0.0", Status.GENERAL_AVAILABILITY, true),
+						documentation("3.1.0-RC1", Status.PRERELEASE, false),
+						documentation("3.1.0-SNAPSHOT", Status.SNAPSHOT, false))));
+		indexes.put("spring-ws", ProjectDocumentationIndex.of(List.of()));
+		given(this.contentfulService.getProjectDocumentationIndexes()).willReturn(Mono.just(indexes));
+	}
+
+	private ProjectDocumentation documentation(String version, Status status, boolean current) {
+		return new ProjectDocumentation(version, null, null, status, null, current);
+	}
+
+	private ResultActions performAsync(RequestBuilder requestBuilder) throws Exception {
+		MvcResult result = this.mvc.perform(requestBuilder).andExpect(request().asyncStarted()).andReturn();
+		return this.mvc.perform(asyncDispatch(result));
+	}
+
+}
@@ -22,32 +22,45 @@ import java.util.ArrayList;
 import java.util.List;
 
 import io.spring.projectapi.contentful.ContentfulService;
+import io.spring.projectapi.contentful.DocumentationAlreadyPresentException;
 import io.spring.projectapi.contentful.NoSuchContentfulProjectException;
 import io.spring.projectapi.contentful.ProjectDocumentation;
 import io.spring.projectapi.contentful.ProjectDocumentation.Status;
+import io.spring.projectapi.contentful.ProjectDocumentationIndex;
+import io.spring.projectapi.contentful.ReactiveContentfulService;
 import io.spring.projectapi.test.WebApiTest;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.util.FileCopyUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -65,32 +78,36 @@ class ReleasesControllerTests {
 	@MockBean
 	private ContentfulService contentfulService;
 
+	@MockBean
+	private ReactiveContentfulService reactiveContentfulService;
+
 	@Test
 	void releasesReturnsReleases() throws Exception {
-		given(this.contentfulService.getProjectDocumentations("spring-boot")).willReturn(getProjectDocumentations());
-		this.mvc.perform(get("/projects/spring-boot/releases").accept(MediaTypes.HAL_JSON)).andExpect(status().isOk())
+		given(this.reactiveContentfulService.getProjectDocumentationIndex("spring-boot"))
+				.willReturn(Mono.just(ProjectDocumentationIndex.of(getProjectDocumentations())));
+		performAsync(get("/projects/spring-boot/releases").accept(MediaTypes.HAL_JSON)).andExpect(status().isOk())
 				.andExpect(jsonPath("$._embedded.releases.length()").value("2"))
-				.andExpect(jsonPath("$._embedded.releases[0].version").value("2.3.0"))
-				.andExpect(jsonPath("$._embedded.releases[0].status").value("GENERAL_AVAILABILITY"))
-				.andExpect(jsonPath("$._embedded.releases[0].current").value(true))
-				.andExpect(jsonPath("$._embedded.releases[0].referenceDocUrl")
+				.andExpect(jsonPath("$._embedded.releases[1].version").value("2.3.0"))
+				.andExpect(jsonPath("$._embedded.releases[1].status").value("GENERAL_AVAILABILITY"))
+				.andExpect(jsonPath("$._embedded.releases[1].current").value(true))
+				.andExpect(jsonPath("$._embedded.releases[1].referenceDocUrl")
 						.value("https://docs.spring.io/spring-boot/docs/2.3.0/reference/html/"))
-				.andExpect(jsonPath("$._embedded.releases[0].apiDocUrl")
+				.andExpect(jsonPath("$._embedded.releases[1].apiDocUrl")
 						.value("https://docs.spring.io/spring-boot/docs/2.3.0/api/"))
-				.andExpect(jsonPath("$._embedded.releases[0]._links.self.href")
+				.andExpect(jsonPath("$._embedded.releases[1]._links.self.href")
 						.value("http://localhost/projects/spring-boot/releases/2.3.0"))
-				.andExpect(jsonPath("$._embedded.releases[0]._links.repository.href")
+				.andExpect(jsonPath("$._embedded.releases[1]._links.repository.href")
 						.value("http://localhost/repositories/spring-releases"))
-				.andExpect(jsonPath("$._embedded.releases[1].version").value("2.3.1-SNAPSHOT"))
-				.andExpect(jsonPath("$._embedded.releases[1].status").value("SNAPSHOT"))
-				.andExpect(jsonPath("$._embedded.releases[1].current").value(false))
-				.andExpect(jsonPath("$._embedded.releases[1].referenceDocUrl")
+				.andExpect(jsonPath("$._embedded.releases[0].version").value("2.3.1-SNAPSHOT"))
+				.andExpect(jsonPath("$._embedded.releases[0].status").value("SNAPSHOT"))
+				.andExpect(jsonPath("$._embedded.releases[0].current").value(false))
+				.andExpect(jsonPath("$._embedded.releases[0].referenceDocUrl")
 						.value("https://docs.spring.io/spring-boot/docs/2.3.1-SNAPSHOT/reference/html/"))
-				.andExpect(jsonPath("$._embedded.releases[1].apiDocUrl")
+				.andExpect(jsonPath("$._embedded.releases[0].apiDocUrl")
 						.value("https://docs.spring.io/spring-boot/docs/2.3.1-SNAPSHOT/api/"))
-				.andExpect(jsonPath("$._embedded.releases[1]._links.self.href")
+				.andExpect(jsonPath("$._embedded.releases[0]._links.self.href")
 						.value("http://localhost/projects/spring-boot/releases/2.3.1-SNAPSHOT"))
-				.andExpect(jsonPath("$._embedded.releases[1]._links.repository.href")
+				.andExpect(jsonPath("$._embedded.releases[0]._links.repository.href")
 						.value("http://localhost/repositories/spring-snapshots"))
 				.andExpect(jsonPath("$._links.current.href")
 						.value("http://localhost/projects/spring-boot/releases/current"))
@@ -99,16 +116,101 @@ class ReleasesControllerTests {
 
 	@Test
 	void releasesWhenNotFoundReturns404() throws Exception {
-		given(this.contentfulService.getProjectDocumentations("spring-boot"))
+		given(this.reactiveContentfulService.getProjectDocumentationIndex("spring-boot"))
 				.willThrow(NoSuchContentfulProjectException.class);
 		this.mvc.perform(get("/projects/spring-boot/releases").accept(MediaTypes.HAL_JSON))
 				.andExpect(status().isNotFound());
 	}
 
+	@Test
+	void releasesWhenNotModifiedReturns304() throws Exception {
+		given(this.reactiveContentfulService.getVersion()).willReturn("1");
+		given(this.reactiveContentfulService.getProjectDocumentationIndex("spring-boot"))
+				.willReturn(Mono.just(ProjectDocumentationIndex.of(getProjectDocumentations())));
+		performAsync(get("/projects/spring-boot/releases").accept(MediaTypes.HAL_JSON)
+				.header(HttpHeaders.IF_NONE_MATCH, "\"1\"")).andExpect(status().isNotModified());
+	}
+
+	@Test
+	void releasesWhenNotModifiedAndProjectNotFoundReturns404() throws Exception {
+		given(this.reactiveContentfulService.getVersion()).willReturn("1");
+		given(this.reactiveContentfulService.getProjectDocumentationIndex("spring-boot"))
+				.willThrow(NoSuchContentfulProjectException.class);
+		this.mvc.perform(get("/projects/spring-boot/releases").accept(MediaTypes.HAL_JSON)
+				.header(HttpHeaders.IF_NONE_MATCH, "\"1\"")).andExpect(status().isNotFound());
+	}
+
+	@Test
+	void releaseWhenNotModifiedAndVersionNotFoundReturns404() throws Exception {
+		given(this.reactiveContentfulService.getVersion()).willReturn("1");
+		given(this.reactiveContentfulService.getProjectDocumentationIndex("spring-boot"))
+				.willReturn(Mono.just(ProjectDocumentationIndex.of(getProjectDocumentations())));
+		performAsync(get("/projects/spring-boot/releases/9.9.9").accept(MediaTypes.HAL_JSON)
+				.header(HttpHeaders.IF_NONE_MATCH, "\"1\"")).andExpect(status().isNotFound());
+	}
+
+	@Test
+	void releasesWhenModifiedReturnsReleases() throws Exception {
+		given(this.reactiveContentfulService.getVersion()).willReturn("2");
+		given(this.reactiveContentfulService.getProjectDocumentationIndex("spring-boot"))
+				.willReturn(Mono.just(ProjectDocumentationIndex.of(getProjectDocumentations())));
+		performAsync(get("/projects/spring-boot/releases").accept(MediaTypes.HAL_JSON)
+				.header(HttpHeaders.IF_NONE_MATCH, "\"1\"")).andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+				.andExpect(jsonPath("$._embedded.releases.length()").value("2"));
+	}
+
+	@Test
+	void releasesWithRangeReturnsReleasesInRange() throws Exception {
+		givenManyProjectDocumentations();
+		performAsync(get("/projects/spring-boot/releases").param("range", "[2.7.0,3.0.0)").accept(MediaTypes.HAL_JSON))
+				.andExpect(status().isOk()).andExpect(
+						jsonPath("$._embedded.releases[*].version").value(contains("3.0.0-M1", "2.7.1", "2.7.0")));
+	}
+
+	@Test
+	void releasesWithStatusReturnsReleasesWithStatus() throws Exception {
+		givenManyProjectDocumentations();
+		performAsync(get("/projects/spring-boot/releases?status=PRERELEASE").accept(MediaTypes.HAL_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$._embedded.releases[*].version").value(contains("3.1.0-RC1", "3.0.0-M1")));
+	}
+
+	@Test
+	void releasesWithLatestPerMinorReturnsNewestReleaseOfEachLine() throws Exception {
+		givenManyProjectDocumentations();
+		performAsync(get("/projects/spring-boot/releases?status=GENERAL_AVAILABILITY&latestPerMinor=true")
+				.accept(MediaTypes.HAL_JSON)).andExpect(status().isOk())
+				.andExpect(jsonPath("$._embedded.releases[*].version").value(contains("3.0.1", "2.7.1", "2.6.0")));
+	}
+
+	@Test
+	void releasesWithLimitReturnsNewestReleases() throws Exception {
+		givenManyProjectDocumentations();
+		performAsync(get("/projects/spring-boot/releases?range=2.7.0&limit=2").accept(MediaTypes.HAL_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$._embedded.releases[*].version").value(contains("3.1.0-SNAPSHOT", "3.1.0-RC1")));
+	}
+
+	@Test
+	void releasesWithInvalidRangeReturnsBadRequest() throws Exception {
+		this.mvc.perform(
+				get("/projects/spring-boot/releases").param("range", "[3.0.0,2.0.0]").accept(MediaTypes.HAL_JSON))
+				.andExpect(status().isBadRequest());
+		verify(this.reactiveContentfulService, never()).getProjectDocumentationIndex("spring-boot");
+	}
+
+	@Test
+	void releasesWithInvalidLimitReturnsBadRequest() throws Exception {
+		this.mvc.perform(get("/projects/spring-boot/releases?limit=0").accept(MediaTypes.HAL_JSON))
+				.andExpect(status().isBadRequest());
+	}
+
 	@Test
 	void releaseReturnsRelease() throws Exception {
-		given(this.contentfulService.getProjectDocumentations("spring-boot")).willReturn(getProjectDocumentations());
-		this.mvc.perform(get("/projects/spring-boot/releases/2.3.0").accept(MediaTypes.HAL_JSON))
+		given(this.reactiveContentfulService.getProjectDocumentationIndex("spring-boot"))
+				.willReturn(Mono.just(ProjectDocumentationIndex.of(getProjectDocumentations())));
+		performAsync(get("/projects/spring-boot/releases/2.3.0").accept(MediaTypes.HAL_JSON))
 				.andExpect(status().isOk()).andExpect(jsonPath("$.version").value("2.3.0"))
 				.andExpect(jsonPath("$._links.self.href").value("http://localhost/projects/spring-boot/releases/2.3.0"))
 				.andExpect(jsonPath("$._links.repository.href").value("http://localhost/repositories/spring-releases"));
@@ -116,17 +218,35 @@ class ReleasesControllerTests {
 
 	@Test
 	void currentReturnsCurrentRelease() throws Exception {
-		given(this.contentfulService.getProjectDocumentations("spring-boot")).willReturn(getProjectDocumentations());
-		this.mvc.perform(get("/projects/spring-boot/releases/current").accept(MediaTypes.HAL_JSON))
+		given(this.reactiveContentfulService.getProjectDocumentationIndex("spring-boot"))
+				.willReturn(Mono.just(ProjectDocumentationIndex.of(getProjectDocumentations())));
+		performAsync(get("/projects/spring-boot/releases/current").accept(MediaTypes.HAL_JSON))
 				.andExpect(status().isOk()).andExpect(jsonPath("$.version").value("2.3.0"))
 				.andExpect(jsonPath("$._links.self.href").value("http://localhost/projects/spring-boot/releases/2.3.0"))
 				.andExpect(jsonPath("$._links.repository.href").value("http://localhost/repositories/spring-releases"));
 	}
 
+	@Test
+	void releaseWhenVersionNotFoundReturns404() throws Exception {
+		given(this.reactiveContentfulService.getProjectDocumentationIndex("spring-boot"))
+				.willReturn(Mono.just(ProjectDocumentationIndex.of(getProjectDocumentations())));
+		performAsync(get("/projects/spring-boot/releases/9.9.9").accept(MediaTypes.HAL_JSON))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void currentWhenNoCurrentReleaseReturns404() throws Exception {
+		given(this.reactiveContentfulService.getProjectDocumentationIndex("spring-boot"))
+				.willReturn(Mono.just(ProjectDocumentationIndex.of(getProjectDocumentations().subList(1, 2))));
+		performAsync(get("/projects/spring-boot/releases/current").accept(MediaTypes.HAL_JSON))
+				.andExpect(status().isNotFound());
+	}
+
 	@Test
 	@WithMockUser(roles = "ADMIN")
 	void addAddsRelease() throws Exception {
-		given(this.contentfulService.getProjectDocumentations("spring-boot")).willReturn(getProjectDocumentations());
+		given(this.contentfulService.getProjectDocumentationIndex("spring-boot"))
+				.willReturn(ProjectDocumentationIndex.of(getProjectDocumentations()));
 		String expectedLocation = "http://localhost/projects/spring-boot/releases/2.8.0";
 		this.mvc.perform(post("/projects/spring-boot/releases").accept(MediaTypes.HAL_JSON)
 				.contentType(MediaType.APPLICATION_JSON).content(from("add.json"))).andExpect(status().isCreated())
@@ -154,7 +274,7 @@ class ReleasesControllerTests {
 	@Test
 	@WithMockUser(roles = "ADMIN")
 	void addWhenProjectDoesNotExistReturnsNotFound() throws Exception {
-		given(this.contentfulService.getProjectDocumentations("spring-boot"))
+		given(this.contentfulService.getProjectDocumentationIndex("spring-boot"))
 				.willThrow(NoSuchContentfulProjectException.class);
 		this.mvc.perform(post("/projects/spring-boot/releases").accept(MediaTypes.HAL_JSON)
 				.contentType(MediaType.APPLICATION_JSON).content(from("add.json"))).andExpect(status().isNotFound());
@@ -163,12 +283,73 @@ class ReleasesControllerTests {
 	@Test
 	@WithMockUser(roles = "ADMIN")
 	void addWhenReleaseAlreadyExistsReturnsBadRequest() throws Exception {
-		given(this.contentfulService.getProjectDocumentations("spring-boot")).willReturn(getProjectDocumentations());
+		given(this.contentfulService.getProjectDocumentationIndex("spring-boot"))
+				.willReturn(ProjectDocumentationIndex.of(getProjectDocumentations()));
 		this.mvc.perform(post("/projects/spring-boot/releases").accept(MediaTypes.HAL_JSON)
 				.contentType(MediaType.APPLICATION_JSON).content(from("add-already-exists.json")))
 				.andExpect(status().isBadRequest());
 	}
 
+	@Test
+	@WithMockUser(roles = "ADMIN")
+	@SuppressWarnings("unchecked")
+	void addAllAddsReleases() throws Exception {
+		given(this.contentfulService.getProjectDocumentationIndex("spring-boot"))
+				.willReturn(ProjectDocumentationIndex.of(getProjectDocumentations()));
+		String expectedLocation = "http://localhost/projects/spring-boot/releases";
+		this.mvc.perform(post("/projects/spring-boot/releases/batch").accept(MediaTypes.HAL_JSON)
+				.contentType(MediaType.APPLICATION_JSON).content(from("add-batch.json")))
+				.andExpect(status().isCreated()).andExpect(header().string("Location", expectedLocation));
+		ArgumentCaptor<List<ProjectDocumentation>> captor = ArgumentCaptor.forClass(List.class);
+		verify(this.contentfulService).addProjectDocumentations(eq("spring-boot"), captor.capture());
+		List<ProjectDocumentation> added = captor.getValue();
+		assertThat(added).extracting(ProjectDocumentation::getVersion).containsExactly("2.8.0", "2.8.1-SNAPSHOT");
+		assertThat(added).extracting(ProjectDocumentation::getStatus).containsExactly(Status.GENERAL_AVAILABILITY,
+				Status.SNAPSHOT);
+		assertThat(added).extracting(ProjectDocumentation::getRepository).containsExactly("spring-releases",
+				"spring-snapshots");
+	}
+
+	@Test
+	void addAllWhenHasNoAdminRoleReturnsUnauthorized() throws Exception {
+		this.mvc.perform(post("/projects/spring-boot/releases/batch").accept(MediaTypes.HAL_JSON)
+				.contentType(MediaType.APPLICATION_JSON).content(from("add-batch.json")))
+				.andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	@WithMockUser(roles = "ADMIN")
+	void addAllWhenAnyReleaseAlreadyExistsReturnsBadRequest() throws Exception {
+		given(this.contentfulService.getProjectDocumentationIndex("spring-boot"))
+				.willReturn(ProjectDocumentationIndex.of(getProjectDocumentations()));
+		this.mvc.perform(post("/projects/spring-boot/releases/batch").accept(MediaTypes.HAL_JSON)
+				.contentType(MediaType.APPLICATION_JSON).content(from("add-batch-already-exists.json")))
+				.andExpect(status().isBadRequest());
+		verify(this.contentfulService, never()).addProjectDocumentations(any(), any());
+	}
+
+	@Test
+	@WithMockUser(roles = "ADMIN")
+	void addAllWhenReleaseAlreadyExistsInContentfulReturnsBadRequest() throws Exception {
+		given(this.contentfulService.getProjectDocumentationIndex("spring-boot"))
+				.willReturn(ProjectDocumentationIndex.of(getProjectDocumentations()));
+		willThrow(DocumentationAlreadyPresentException.class).given(this.contentfulService)
+				.addProjectDocumentations(eq("spring-boot"), any());
+		this.mvc.perform(post("/projects/spring-boot/releases/batch").accept(MediaTypes.HAL_JSON)
+				.contentType(MediaType.APPLICATION_JSON).content(from("add-batch.json")))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	@WithMockUser(roles = "ADMIN")
+	void addAllWhenProjectDoesNotExistReturnsNotFound() throws Exception {
+		given(this.contentfulService.getProjectDocumentationIndex("spring-boot"))
+				.willThrow(NoSuchContentfulProjectException.class);
+		this.mvc.perform(post("/projects/spring-boot/releases/batch").accept(MediaTypes.HAL_JSON)
+				.contentType(MediaType.APPLICATION_JSON).content(from("add-batch.json")))
+				.andExpect(status().isNotFound());
+	}
+
 	@Test
 	@WithMockUser(roles = "ADMIN")
 	void deleteDeletesDocumentation() throws Exception {
@@ -193,6 +374,11 @@ class ReleasesControllerTests {
 				.andExpect(status().isNotFound());
 	}
 
+	private ResultActions performAsync(RequestBuilder requestBuilder) throws Exception {
+		MvcResult result = this.mvc.perform(requestBuilder).andExpect(request().asyncStarted()).andReturn();
+		return this.mvc.perform(asyncDispatch(result));
+	}
+
 	private byte[] from(String path) throws IOException {
 		ClassPathResource resource = new ClassPathResource(path, getClass());
 		try (InputStream inputStream = resource.getInputStream()) {
@@ -200,6 +386,17 @@ class ReleasesControllerTests {
 		}
 	}
 
+	private void givenManyProjectDocumentations() {
+		List<ProjectDocumentation> documentations = new ArrayList<>();
+		for (String version : List.of("2.6.0", "2.7.0", "2.7.1", "3.0.0-M1", "3.0.0", "3.0.1", "3.1.0-RC1",
+				"3.1.0-SNAPSHOT")) {
+			Status status = Status.valueOf(Release.Status.fromVersion(version).name());
+			documentations.add(new ProjectDocumentation(version, null, null, status, null, false));
+		}
+		given(this.reactiveContentfulService.getProjectDocumentationIndex("spring-boot"))
+				.willReturn(Mono.just(ProjectDocumentationIndex.of(documentations)));
+	}
+
 	private List<ProjectDocumentation> getProjectDocumentations() {
 		List<ProjectDocumentation> result = new ArrayList<>();
 		String docsRoot;
@@ -21,8 +21,10 @@ import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -45,6 +47,15 @@ class RepositoriesControllerTests {
 				.andExpect(jsonPath("$._embedded.repositories.length()").value("3"));
 	}
 
+	@Test
+	void repositoriesWhenNotModifiedReturns304() throws Exception {
+		String entityTag = this.mvc.perform(get("/repositories").accept(MediaTypes.HAL_JSON))
+				.andExpect(status().isOk()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(entityTag).isNotEmpty();
+		this.mvc.perform(get("/repositories").accept(MediaTypes.HAL_JSON).header(HttpHeaders.IF_NONE_MATCH, entityTag))
+				.andExpect(status().isNotModified());
+	}
+
 	@Test
 	void repositoryReturnsRepository() throws Exception {
 		this.mvc.perform(get("/repositories/spring-releases").accept(MediaTypes.HAL_JSON)).andExpect(status().isOk());
@@ -56,4 +67,12 @@ class RepositoriesControllerTests {
 				.andExpect(status().isNotFound());
 	}
 
+	@Test
+	void repositoryWhenNotModifiedAndNotFoundReturns404() throws Exception {
+		String entityTag = this.mvc.perform(get("/repositories").accept(MediaTypes.HAL_JSON))
+				.andExpect(status().isOk()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		this.mvc.perform(get("/repositories/does-not-exist").accept(MediaTypes.HAL_JSON)
+				.header(HttpHeaders.IF_NONE_MATCH, entityTag)).andExpect(status().isNotFound());
+	}
+
 }
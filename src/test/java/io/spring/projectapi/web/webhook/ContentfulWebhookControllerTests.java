@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.projectapi.web.webhook;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import io.spring.projectapi.contentful.ContentfulService;
+import io.spring.projectapi.test.WebApiTest;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.util.FileCopyUtils;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests for {@link ContentfulWebhookController}.
+ *
+ * @author Phillip Webb
+ */
+@WebApiTest(ContentfulWebhookController.class)
+@TestPropertySource(properties = "projects.contentful.webhook-secret=s3cr3t")
+class ContentfulWebhookControllerTests {
+
+	private static final MediaType CONTENTFUL_MANAGEMENT = MediaType
+			.parseMediaType("application/vnd.contentful.management.v1+json");
+
+	@Autowired
+	private MockMvc mvc;
+
+	@MockBean
+	private ContentfulService contentfulService;
+
+	@Test
+	void entryWhenPublishedEvictsProject() throws Exception {
+		this.mvc.perform(webhook("ContentManagement.Entry.publish", "publish.json"))
+				.andExpect(status().isNoContent());
+		verify(this.contentfulService).evictProjectEntry("1Xe2hJcwSslBa8e1jHAGmd", "spring-boot");
+	}
+
+	@Test
+	void entryWhenDeletedEvictsEntry() throws Exception {
+		this.mvc.perform(webhook("ContentManagement.Entry.delete", "delete.json"))
+				.andExpect(status().isNoContent());
+		verify(this.contentfulService).evictProjectEntry(eq("1Xe2hJcwSslBa8e1jHAGmd"),
+				isNull());
+	}
+
+	@Test
+	void entryWhenOtherContentTypeIgnoresNotification() throws Exception {
+		this.mvc.perform(webhook("ContentManagement.Entry.publish", "publish-other-content-type.json"))
+				.andExpect(status().isNoContent());
+		verify(this.contentfulService, never()).evictProjectEntry(any(), any());
+	}
+
+	@Test
+	void entryWhenNotEntryTopicIgnoresNotification() throws Exception {
+		this.mvc.perform(webhook("ContentManagement.Asset.publish", "publish.json"))
+				.andExpect(status().isNoContent());
+		verify(this.contentfulService, never()).evictProjectEntry(any(), any());
+	}
+
+	@Test
+	void entryWhenMissingSecretReturnsUnauthorized() throws Exception {
+		this.mvc.perform(webhook("ContentManagement.Entry.publish", "publish.json", null))
+				.andExpect(status().isUnauthorized());
+		verify(this.contentfulService, never()).evictProjectEntry(any(), any());
+	}
+
+	@Test
+	void entryWhenWrongSecretReturnsUnauthorized() throws Exception {
+		this.mvc.perform(webhook("ContentManagement.Entry.publish", "publish.json", "wrong"))
+				.andExpect(status().isUnauthorized());
+		verify(this.contentfulService, never()).evictProjectEntry(any(), any());
+	}
+
+	private MockHttpServletRequestBuilder webhook(String topic, String path) throws IOException {
+		return webhook(topic, path, "s3cr3t");
+	}
+
+	private MockHttpServletRequestBuilder webhook(String topic, String path, String secret) throws IOException {
+		MockHttpServletRequestBuilder request = post("/webhooks/contentful").header("X-Contentful-Topic", topic)
+				.contentType(CONTENTFUL_MANAGEMENT).content(from(path));
+		return (secret != null) ? request.header("X-Webhook-Secret", secret) : request;
+	}
+
+	private byte[] from(String path) throws IOException {
+		ClassPathResource resource = new ClassPathResource(path, getClass());
+		try (InputStream inputStream = resource.getInputStream()) {
+			return FileCopyUtils.copyToByteArray(inputStream);
+		}
+	}
+
+}